@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.cyclonedx.exception.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures the throughput in files per second when parsing a directory of synthetic Standard BOMs, once in a simple
+ * loop, and once via {@link StandardBomParser#parseAll}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class BatchParseBenchmark
+{
+    private static final int NUM_FILES = 100;
+
+    @Param("1000")
+    public int numComponents;
+
+    @Param({"1", "2", "4"})
+    public int numThreads;
+
+    private final StandardBomParser parser = new StandardBomParser();
+
+    private Path directory;
+
+    private List<Path> files;
+
+    private ExecutorService executor;
+
+
+
+    @Setup(Level.Trial)
+    public void setUp()
+        throws IOException
+    {
+        directory = Files.createTempDirectory("benchmark");
+        files = new ArrayList<>();
+        for (int i = 0; i < NUM_FILES; i++) {
+            final Path file = directory.resolve("bom" + i + ".cdx.json");
+            parser.save(BenchmarkData.createBom(numComponents), file.toFile());
+            files.add(file);
+        }
+        executor = Executors.newFixedThreadPool(numThreads);
+    }
+
+
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws IOException
+    {
+        executor.shutdown();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_FILES)
+    public int parseSequentially()
+        throws IOException, ParseException
+    {
+        int result = 0;
+        for (Path file : files) {
+            result += parser.parse(file).getComponents().size();
+        }
+        return result;
+    }
+
+
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_FILES)
+    public int parseAll()
+    {
+        int result = 0;
+        try (StandardBomBatchReader reader = parser.parseAll(files, executor, 2 * numThreads)) {
+            while (reader.hasNext()) {
+                final ParseResult parseResult = reader.next();
+                if (parseResult.getBom() == null) {
+                    throw new IllegalStateException("Failed to parse " + parseResult.getPath(),
+                        parseResult.getError());
+                }
+                result += parseResult.getBom().getComponents().size();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.Date;
+import java.util.Locale;
+import javax.annotation.Nonnull;
+
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.License;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.ExternalComponent;
+import com.siemens.sbom.standardbom.model.SbomNature;
+import com.siemens.sbom.standardbom.model.SourceArtifactRefUrl;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Generates synthetic Standard BOMs of arbitrary size for the benchmarks. The content is deterministic, so that
+ * results are comparable between runs.
+ */
+public final class BenchmarkData
+{
+    private BenchmarkData()
+    {
+        // utility class
+    }
+
+
+
+    /**
+     * Create a Standard BOM with the given number of components. Each component has hashes, licenses, a multi-line
+     * copyright statement, third-party notices, source artifacts, and a dependency on its predecessor.
+     *
+     * @param pNumComponents the number of components to create
+     * @return a new Standard BOM
+     */
+    @Nonnull
+    public static StandardBom createBom(final int pNumComponents)
+    {
+        return createBom(pNumComponents, 1);
+    }
+
+
+
+    /**
+     * Create a Standard BOM with the given number of components and external components.
+     *
+     * @param pNumComponents the number of components to create, see {@link #createBom(int)}
+     * @param pNumExternalComponents the number of external components to create
+     * @return a new Standard BOM
+     */
+    @Nonnull
+    public static StandardBom createBom(final int pNumComponents, final int pNumExternalComponents)
+    {
+        final StandardBom sbom = new StandardBom();
+        sbom.setSbomNature(SbomNature.Binary);
+        sbom.setProfile("clearing");
+        sbom.setTimestamp(new Date(1657292400000L));
+        sbom.setSerialNumber("urn:uuid:3e671687-395b-41f5-a30f-a58921a69b79");
+
+        for (int i = 0; i < pNumComponents; i++) {
+            final BomEntry component = createComponent(i);
+            sbom.addComponent(component);
+            final Dependency dependency = new Dependency(component.getBomRef());
+            if (i > 0) {
+                dependency.addDependency(new Dependency(bomRef(i - 1)));
+            }
+            sbom.addDependency(dependency);
+        }
+
+        for (int i = 0; i < pNumExternalComponents; i++) {
+            final ExternalComponent extComp = new ExternalComponent();
+            extComp.setUrl(i == 0 ? "pkg:deb/debian/keycloak@4.8.3.Final" : "pkg:deb/debian/package" + i + "@1.0");
+            extComp.setExternalId(String.valueOf(12345 + i));
+            extComp.setLegalRemark("a legal remark");
+            sbom.addExternalComponent(extComp);
+        }
+        return sbom;
+    }
+
+
+
+    private static String bomRef(final int pIndex)
+    {
+        return "pkg:maven/com.example.group" + (pIndex % 97) + "/component" + pIndex + "@1." + (pIndex % 13) + ".0";
+    }
+
+
+
+    @Nonnull
+    static BomEntry createComponent(final int pIndex)
+    {
+        final BomEntry component = new BomEntry();
+        component.setType(Component.Type.LIBRARY);
+        component.setGroup("com.example.group" + (pIndex % 97));
+        component.setName("component" + pIndex);
+        component.setVersion("1." + (pIndex % 13) + ".0");
+        component.setPurl(bomRef(pIndex));
+        component.setBomRef(component.getPurl());
+        component.setDescription("Description of component " + pIndex);
+        component.setCopyright("Copyright (c) 2002-2020 The Example Foundation\nCopyright (c) 2021 Contributor "
+            + pIndex);
+        component.setThirdPartyNotices("Example component " + pIndex
+            + "\nThis product includes software developed at\nThe Example Foundation (https://example.com/).");
+        component.setDirectDependency(pIndex % 2 == 0);
+        component.setFilename("component" + pIndex + ".jar");
+        component.setPrimaryLanguage("Java");
+        component.setWebsite("https://example.com/component" + pIndex);
+        component.setRelativePath("file:///binaries/component" + pIndex + ".jar");
+        component.setMd5(hexHash(pIndex, 32));
+        component.setSha1(hexHash(pIndex, 40));
+        component.setSha256(hexHash(pIndex, 64));
+
+        final License license = new License();
+        license.setId(pIndex % 3 == 0 ? "MIT" : "Apache-2.0");
+        component.addLicense(license);
+
+        final SourceArtifactRefUrl sourceUrl = new SourceArtifactRefUrl();
+        sourceUrl.setUrl("https://example.com/sources/component" + pIndex + "-sources.jar");
+        sourceUrl.setSha1(hexHash(pIndex + 1, 40));
+        component.addSources(sourceUrl);
+        return component;
+    }
+
+
+
+    @Nonnull
+    private static String hexHash(final int pSeed, final int pLength)
+    {
+        final StringBuilder sb = new StringBuilder(pLength);
+        long value = pSeed * 0x9E3779B97F4A7C15L;
+        while (sb.length() < pLength) {
+            value = value * 6364136223846793005L + 1442695040888963407L;
+            sb.append(String.format(Locale.ROOT, "%016x", value));
+        }
+        return sb.substring(0, pLength);
+    }
+}
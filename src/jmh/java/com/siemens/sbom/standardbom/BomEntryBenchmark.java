@@ -0,0 +1,111 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+
+
+/**
+ * Measures the accessors of a single {@link BomEntry}, which are backed by custom properties, hashes, and external
+ * references of the wrapped CycloneDX component. The setters write the value which is already present, so that the
+ * entry does not change over the course of the benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BomEntryBenchmark
+{
+    private BomEntry entry;
+
+    private String filename;
+
+    private String sha256;
+
+    private String website;
+
+
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        entry = BenchmarkData.createComponent(42);
+        filename = entry.getFilename();
+        sha256 = entry.getSha256();
+        website = entry.getWebsite();
+    }
+
+
+
+    @Benchmark
+    public String getProperty()
+    {
+        return entry.getFilename();
+    }
+
+
+
+    @Benchmark
+    public Boolean getBooleanProperty()
+    {
+        return entry.isDirectDependency();
+    }
+
+
+
+    @Benchmark
+    public void setProperty()
+    {
+        entry.setFilename(filename);
+    }
+
+
+
+    @Benchmark
+    public String getHash()
+    {
+        return entry.getSha256();
+    }
+
+
+
+    @Benchmark
+    public void setHash()
+    {
+        entry.setSha256(sha256);
+    }
+
+
+
+    @Benchmark
+    public String getExternalReference()
+    {
+        return entry.getWebsite();
+    }
+
+
+
+    @Benchmark
+    public void setExternalReference()
+    {
+        entry.setWebsite(website);
+    }
+}
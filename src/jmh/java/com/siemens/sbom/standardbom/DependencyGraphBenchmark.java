@@ -0,0 +1,108 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.cyclonedx.model.Dependency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Measures building a {@link DependencyGraph} and querying it. Each component depends on up to four randomly chosen
+ * components which were created before it, so the graph is acyclic, and the first component is depended on by a large
+ * part of the graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class DependencyGraphBenchmark
+{
+    @Param("50000")
+    public int numComponents;
+
+    private StandardBom sbom;
+
+    private DependencyGraph graph;
+
+    private String leafRef;
+
+    private String rootRef;
+
+
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        sbom = new StandardBom();
+        final Random random = new Random(42L);
+        final String[] refs = new String[numComponents];
+        for (int i = 0; i < numComponents; i++) {
+            final BomEntry component = BenchmarkData.createComponent(i);
+            sbom.addComponent(component);
+            refs[i] = component.getBomRef();
+            final Dependency dependency = new Dependency(component.getBomRef());
+            final int numDependencies = i > 0 ? random.nextInt(5) : 0;
+            for (int d = 0; d < numDependencies; d++) {
+                dependency.addDependency(new Dependency(refs[random.nextInt(i)]));
+            }
+            sbom.addDependency(dependency);
+        }
+        graph = new DependencyGraph(sbom);
+        leafRef = refs[0];
+        rootRef = refs[numComponents - 1];
+    }
+
+
+
+    @Benchmark
+    public DependencyGraph build()
+    {
+        return new DependencyGraph(sbom);
+    }
+
+
+
+    @Benchmark
+    public List<String> transitiveDependents()
+    {
+        return graph.getTransitiveDependents(leafRef);
+    }
+
+
+
+    @Benchmark
+    public List<String> transitiveDependencies()
+    {
+        return graph.getTransitiveDependencies(rootRef);
+    }
+
+
+
+    @Benchmark
+    public List<String> topologicalOrder()
+    {
+        return graph.getTopologicalOrder();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Measures {@link StandardBomDiff} on two versions of a synthetic Standard BOM, where every 100th component has a new
+ * version and hash, both in memory and streaming from files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class DiffBenchmark
+{
+    private static final int CHANGE_INTERVAL = 100;
+
+    @Param({"10000", "100000"})
+    public int numComponents;
+
+    private final StandardBomDiff diff = new StandardBomDiff();
+
+    private StandardBom oldBom;
+
+    private StandardBom newBom;
+
+    private Path oldFile;
+
+    private Path newFile;
+
+
+
+    /**
+     * Counts the results of a diff.
+     */
+    private static final class CountingListener
+        implements StandardBomDiffListener
+    {
+        private int count = 0;
+
+
+
+        @Override
+        public void componentChanged(@Nonnull final ComponentChange pChange)
+        {
+            count++;
+        }
+    }
+
+
+
+    @Setup(Level.Trial)
+    public void setUp()
+        throws IOException
+    {
+        oldBom = BenchmarkData.createBom(numComponents);
+        newBom = BenchmarkData.createBom(numComponents);
+        final List<BomEntry> components = newBom.getComponents();
+        for (int i = 0; i < components.size(); i += CHANGE_INTERVAL) {
+            components.get(i).setVersion("2.0.0");
+            components.get(i).setSha256(null);
+        }
+
+        final StandardBomParser parser = new StandardBomParser();
+        oldFile = Files.createTempFile("benchmark-old", ".cdx.json");
+        parser.save(oldBom, oldFile.toFile());
+        newFile = Files.createTempFile("benchmark-new", ".cdx.json");
+        parser.save(newBom, newFile.toFile());
+    }
+
+
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws IOException
+    {
+        Files.delete(oldFile);
+        Files.delete(newFile);
+    }
+
+
+
+    @Benchmark
+    public int diffInMemory()
+    {
+        final CountingListener listener = new CountingListener();
+        diff.diff(oldBom, newBom, listener);
+        return listener.count;
+    }
+
+
+
+    @Benchmark
+    public int diffFiles()
+        throws IOException
+    {
+        final CountingListener listener = new CountingListener();
+        diff.diff(oldFile, newFile, listener);
+        return listener.count;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.cyclonedx.model.Dependency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Measures merging many sub-SBOMs into one with {@link StandardBomMerger}. Half of the components of each input also
+ * occur in the next input. The inputs are modified by the merge, so they are created anew for each invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+public class MergeBenchmark
+{
+    @Param("200")
+    public int numInputs;
+
+    @Param("1000")
+    public int componentsPerInput;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private List<StandardBom> inputs;
+
+    private StandardBomMerger merger;
+
+
+
+    @Setup(Level.Trial)
+    public void setUpMerger()
+    {
+        merger = new StandardBomMerger(parallel);
+    }
+
+
+
+    @Setup(Level.Invocation)
+    public void setUpInputs()
+    {
+        inputs = new ArrayList<>(numInputs);
+        for (int i = 0; i < numInputs; i++) {
+            final StandardBom input = new StandardBom();
+            String previous = null;
+            for (int c = 0; c < componentsPerInput; c++) {
+                final BomEntry component = BenchmarkData.createComponent(i * componentsPerInput / 2 + c);
+                input.addComponent(component);
+                final Dependency dependency = new Dependency(component.getBomRef());
+                if (previous != null) {
+                    dependency.addDependency(new Dependency(previous));
+                }
+                input.addDependency(dependency);
+                previous = component.getBomRef();
+            }
+            inputs.add(input);
+        }
+    }
+
+
+
+    @Benchmark
+    public StandardBom merge()
+    {
+        return merger.merge(inputs);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.cyclonedx.exception.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Measures reading a Standard BOM from memory and from a file, and probing a file for its header fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+public class ParseBenchmark
+{
+    @Param({"1000", "10000", "100000"})
+    public int numComponents;
+
+    private final StandardBomParser parser = new StandardBomParser();
+
+    private byte[] json;
+
+    private File inputFile;
+
+
+
+    @Setup(Level.Trial)
+    public void setUp()
+        throws IOException
+    {
+        json = parser.stringify(BenchmarkData.createBom(numComponents)).getBytes(StandardCharsets.UTF_8);
+        inputFile = File.createTempFile("benchmark", ".cdx.json");
+        Files.write(inputFile.toPath(), json);
+    }
+
+
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws IOException
+    {
+        Files.deleteIfExists(inputFile.toPath());
+    }
+
+
+
+    @Benchmark
+    public StandardBom parseStream()
+        throws IOException, ParseException
+    {
+        return parser.parse(new ByteArrayInputStream(json));
+    }
+
+
+
+    @Benchmark
+    public StandardBom parseFile()
+        throws IOException, ParseException
+    {
+        return parser.parse(inputFile);
+    }
+
+
+
+    @Benchmark
+    public StandardBom parsePath()
+        throws IOException, ParseException
+    {
+        return parser.parse(inputFile.toPath());
+    }
+
+
+
+    @Benchmark
+    public StandardBom parseMappedFile()
+        throws IOException, ParseException
+    {
+        try (FileChannel channel = FileChannel.open(inputFile.toPath())) {
+            return parser.parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+
+
+    @Benchmark
+    public StandardBom probe()
+        throws IOException
+    {
+        return parser.probe(inputFile.toPath());
+    }
+}
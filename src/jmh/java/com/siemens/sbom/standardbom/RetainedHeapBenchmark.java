@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.cyclonedx.exception.ParseException;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Measures the heap retained by a parsed Standard BOM, with and without String deduplication. The retained heap is
+ * reported as the secondary result <code>retainedBytes</code>, taken from the used heap after full garbage
+ * collections before and after parsing. JMH sums it up over all measurement iterations, so the average per parse is
+ * shown in the detailed output. The primary result includes the garbage collections, so it is not a parse time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+public class RetainedHeapBenchmark
+{
+    @Param({"10000", "100000"})
+    public int numComponents;
+
+    @Param({"false", "true"})
+    public boolean deduplicate;
+
+    private StandardBomParser parser;
+
+    private File inputFile;
+
+    /** keeps the parsed SBOM reachable until the heap has been measured */
+    private StandardBom parsed;
+
+
+
+    /**
+     * The secondary results of an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Retained
+    {
+        public long retainedBytes;
+    }
+
+
+
+    @Setup(Level.Trial)
+    public void setUp()
+        throws IOException
+    {
+        parser = new StandardBomParser(deduplicate);
+        inputFile = File.createTempFile("benchmark", ".cdx.json");
+        Files.write(inputFile.toPath(),
+            parser.stringify(BenchmarkData.createBom(numComponents)).getBytes(StandardCharsets.UTF_8));
+    }
+
+
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws IOException
+    {
+        Files.deleteIfExists(inputFile.toPath());
+    }
+
+
+
+    @TearDown(Level.Iteration)
+    public void release()
+    {
+        parsed = null;
+    }
+
+
+
+    private static long usedHeapAfterGc()
+    {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+
+
+    @Benchmark
+    public StandardBom parse(final Retained pRetained)
+        throws IOException, ParseException
+    {
+        final long before = usedHeapAfterGc();
+        parsed = parser.parse(inputFile);
+        pRetained.retainedBytes = usedHeapAfterGc() - before;
+        return parsed;
+    }
+}
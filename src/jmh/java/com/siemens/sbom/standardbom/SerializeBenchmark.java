@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Measures the conversion of a Standard BOM into a JSON String and into a file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+public class SerializeBenchmark
+{
+    @Param({"1000", "10000", "100000"})
+    public int numComponents;
+
+    @Param({"Pretty", "Compact", "Canonical"})
+    public OutputStyle style;
+
+    private final StandardBomParser parser = new StandardBomParser();
+
+    private StandardBom sbom;
+
+    private File outputFile;
+
+
+
+    @Setup(Level.Trial)
+    public void setUp()
+        throws IOException
+    {
+        sbom = BenchmarkData.createBom(numComponents);
+        outputFile = File.createTempFile("benchmark", ".cdx.json");
+        parser.save(sbom, outputFile.toPath(), Compression.None, style);
+    }
+
+
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws IOException
+    {
+        Files.deleteIfExists(outputFile.toPath());
+    }
+
+
+
+    @Benchmark
+    public String stringify()
+    {
+        return parser.stringify(sbom, style);
+    }
+
+
+
+    /**
+     * Always uses the canonical style, regardless of the <code>style</code> parameter.
+     *
+     * @return the content hash
+     */
+    @Benchmark
+    public String contentHash()
+    {
+        return sbom.contentHash();
+    }
+
+
+
+    @Benchmark
+    public void save()
+        throws IOException
+    {
+        parser.save(sbom, outputFile.toPath(), Compression.None, style);
+    }
+
+
+
+    @Benchmark
+    public void saveDurable()
+        throws IOException
+    {
+        parser.save(sbom, outputFile.toPath(), Compression.None, style, SaveMode.Durable);
+    }
+
+
+
+    /**
+     * The output file already has the same content, so this only compares.
+     *
+     * @return <code>false</code>
+     * @throws IOException I/O error
+     */
+    @Benchmark
+    public boolean saveIfChanged()
+        throws IOException
+    {
+        return parser.saveIfChanged(sbom, outputFile.toPath(), Compression.None, style, SaveMode.Overwrite);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+
+
+/**
+ * Compares the identity-based and the deterministic tie-breaking of {@link BomEntrySortComparator} and
+ * {@link StandardBomSorter}. Some of the entries are exact duplicates of others, so that ties must be broken.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class SortBenchmark
+{
+    @Param("50000")
+    public int numComponents;
+
+    /** Percentage of the components which are present twice */
+    @Param({"0", "10"})
+    public int duplicatePercent;
+
+    @Param({"false", "true"})
+    public boolean deterministic;
+
+    private List<BomEntry> entries;
+
+    private BomEntrySortComparator comparator;
+
+
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        entries = new ArrayList<>(BenchmarkData.createBom(numComponents).getComponents());
+        final int numDuplicates = numComponents * duplicatePercent / 100;
+        for (int i = 0; i < numDuplicates; i++) {
+            entries.add(BenchmarkData.createComponent(i * (numComponents / numDuplicates)));
+        }
+        Collections.shuffle(entries, new Random(42L));
+        comparator = new BomEntrySortComparator(deterministic);
+    }
+
+
+
+    @Benchmark
+    public List<BomEntry> sortWithComparator()
+    {
+        final List<BomEntry> result = new ArrayList<>(entries);
+        result.sort(comparator);
+        return result;
+    }
+
+
+
+    @Benchmark
+    public List<BomEntry> sortWithSorter()
+    {
+        final List<BomEntry> result = new ArrayList<>(entries);
+        StandardBomSorter.sort(result, false, deterministic);
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.ExternalComponent;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Measures access to the components and external components of a {@link StandardBom}. Sorting is measured by
+ * {@link SortBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class StandardBomBenchmark
+{
+    @Param({"1000", "10000", "100000"})
+    public int numComponents;
+
+    private StandardBom sbom;
+
+    private String purl;
+
+
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        sbom = BenchmarkData.createBom(numComponents, numComponents / 10);
+        purl = sbom.getComponents().get(numComponents / 2).getPurl();
+    }
+
+
+
+    @Benchmark
+    public List<BomEntry> getComponents()
+    {
+        return sbom.getComponents();
+    }
+
+
+
+    @Benchmark
+    public BomEntry getComponentsAndIterate()
+    {
+        BomEntry last = null;
+        for (BomEntry entry : sbom.getComponents()) {
+            last = entry;
+        }
+        return last;
+    }
+
+
+
+    @Benchmark
+    public BomEntry findByPurl()
+    {
+        return sbom.findByPurl(purl);
+    }
+
+
+
+    @Benchmark
+    public List<ExternalComponent> getExternalComponents()
+    {
+        return sbom.getExternalComponents();
+    }
+}
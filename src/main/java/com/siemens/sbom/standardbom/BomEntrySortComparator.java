@@ -5,9 +5,18 @@
 package com.siemens.sbom.standardbom;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import javax.annotation.Nonnull;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.Property;
+
+import com.siemens.sbom.standardbom.internal.BomJsonMapper;
+import com.siemens.sbom.standardbom.internal.CustomPropertySorter;
 import com.siemens.sbom.standardbom.model.BomEntry;
 
 
@@ -26,12 +35,56 @@ import com.siemens.sbom.standardbom.model.BomEntry;
  * </ol>
  * <p>If elements are still equal after that, they are finally sorted by the system hash code in the current JVM. This
  * is mostly useful for unit testing.</p>
+ * <p>In <i>deterministic</i> mode, the system hash code is not used. Instead, remaining ties are broken by the
+ * <a href="https://cyclonedx.org/docs/1.6/json/#components_items_purl">purl</a>, the
+ * <a href="https://cyclonedx.org/docs/1.6/json/#components_items_bom-ref">bom-ref</a>, all hashes, and finally all
+ * custom properties. If elements are still equal after that, their complete JSON forms are compared. Elements which
+ * are equal even then are indistinguishable in the output. This way, sorting the same logical BOM always produces the
+ * same order, and thus the same bytes when the BOM is saved.</p>
+ * <p>For sorting large numbers of entries, {@link StandardBomSorter} produces the same order much faster.</p>
  */
 public class BomEntrySortComparator
     implements Comparator<BomEntry>, Serializable
 {
     private static final long serialVersionUID = 2L;
 
+    private static final Comparator<String> STRING_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+    /** Separates the values when several values are combined into one sort key */
+    private static final char SEPARATOR = '\u0000';
+
+    private final boolean deterministic;
+
+
+
+    /**
+     * Constructor. Remaining ties are broken by the system hash code.
+     */
+    public BomEntrySortComparator()
+    {
+        this(false);
+    }
+
+
+
+    /**
+     * Constructor.
+     *
+     * @param pDeterministic <code>true</code> to break remaining ties by the content of the BOM entries, so that the
+     * order is the same across JVM runs; <code>false</code> to break them by the system hash code
+     */
+    public BomEntrySortComparator(final boolean pDeterministic)
+    {
+        deterministic = pDeterministic;
+    }
+
+
+
+    public boolean isDeterministic()
+    {
+        return deterministic;
+    }
+
 
 
     @Override
@@ -44,25 +97,28 @@ public class BomEntrySortComparator
         }
 
         if (result == 0 && pDto1 != null) {
-            final Comparator<String> strcomp = Comparator.nullsLast(Comparator.comparing(String::toString));
-
-            result = Objects.compare(pDto1.getGroup(), pDto2.getGroup(), strcomp);
+            result = Objects.compare(pDto1.getGroup(), pDto2.getGroup(), STRING_ORDER);
             if (result == 0) {
-                result = Objects.compare(pDto1.getName(), pDto2.getName(), strcomp);
+                result = Objects.compare(pDto1.getName(), pDto2.getName(), STRING_ORDER);
             }
             if (result == 0) {
-                result = Objects.compare(pDto1.getFilename(), pDto2.getFilename(), strcomp);
+                result = Objects.compare(pDto1.getFilename(), pDto2.getFilename(), STRING_ORDER);
             }
             if (result == 0) {
-                result = Objects.compare(pDto1.getVersion(), pDto2.getVersion(), strcomp);
+                result = Objects.compare(pDto1.getVersion(), pDto2.getVersion(), STRING_ORDER);
             }
             if (result == 0) {
-                result = Objects.compare(pDto1.getSha1(), pDto2.getSha1(), strcomp);
+                result = Objects.compare(pDto1.getSha1(), pDto2.getSha1(), STRING_ORDER);
             }
         }
 
         if (result == 0 && pDto1 != null) {
-            result = compareByIdentity(pDto1, pDto2);
+            if (deterministic) {
+                result = compareByContent(pDto1, pDto2);
+            }
+            else {
+                result = compareByIdentity(pDto1, pDto2);
+            }
         }
         return result;
     }
@@ -105,4 +161,93 @@ public class BomEntrySortComparator
         }
         return result;
     }
+
+
+
+    private int compareByContent(@Nonnull final BomEntry pDto1, @Nonnull final BomEntry pDto2)
+    {
+        int result = Objects.compare(pDto1.getPurl(), pDto2.getPurl(), STRING_ORDER);
+        if (result == 0) {
+            result = Objects.compare(pDto1.getBomRef(), pDto2.getBomRef(), STRING_ORDER);
+        }
+        if (result == 0) {
+            result = Objects.compare(hashesKey(pDto1), hashesKey(pDto2), STRING_ORDER);
+        }
+        if (result == 0) {
+            result = Objects.compare(propertiesKey(pDto1), propertiesKey(pDto2), STRING_ORDER);
+        }
+        if (result == 0 && pDto1 != pDto2) {
+            result = jsonKey(pDto1).compareTo(jsonKey(pDto2));
+        }
+        return result;
+    }
+
+
+
+    /**
+     * Combine all hashes of the given BOM entry into one String, regardless of the order in which they are listed.
+     *
+     * @param pEntry a BOM entry
+     * @return the sort key, or <code>null</code> if the entry has no hashes
+     */
+    static String hashesKey(@Nonnull final BomEntry pEntry)
+    {
+        final List<Hash> hashes = pEntry.getCycloneDxComponent().getHashes();
+        if (hashes == null || hashes.isEmpty()) {
+            return null;
+        }
+        final List<String> values = new ArrayList<>(hashes.size());
+        for (Hash hash : hashes) {
+            if (hash != null) {
+                values.add(hash.getAlgorithm() + SEPARATOR + hash.getValue());
+            }
+        }
+        values.sort(STRING_ORDER);
+        return String.join(String.valueOf(SEPARATOR), values);
+    }
+
+
+
+    /**
+     * Combine all custom properties of the given BOM entry into one String, in the order in which they are serialized.
+     *
+     * @param pEntry a BOM entry
+     * @return the sort key, or <code>null</code> if the entry has no custom properties
+     */
+    static String propertiesKey(@Nonnull final BomEntry pEntry)
+    {
+        final List<Property> properties = pEntry.getCycloneDxComponent().getProperties();
+        if (properties == null || properties.isEmpty()) {
+            return null;
+        }
+        final List<Property> sorted = new ArrayList<>(properties);
+        sorted.sort(Comparator.nullsLast(CustomPropertySorter.INSTANCE));
+        final StringBuilder sb = new StringBuilder();
+        for (Property property : sorted) {
+            if (property != null) {
+                sb.append(property.getName()).append(SEPARATOR).append(property.getValue()).append(SEPARATOR);
+            }
+        }
+        return sb.toString();
+    }
+
+
+
+    /**
+     * Serialize the given BOM entry to canonical JSON, as the last resort for breaking ties. The canonical form is
+     * used so that the result does not depend on the order of unordered lists such as licenses or authors.
+     *
+     * @param pEntry a BOM entry
+     * @return the canonical JSON form of the entry
+     */
+    @Nonnull
+    static String jsonKey(@Nonnull final BomEntry pEntry)
+    {
+        try {
+            return BomJsonMapper.getCanonicalWriter().writeValueAsString(pEntry.getCycloneDxComponent());
+        }
+        catch (JsonProcessingException | RuntimeException e) {
+            throw new StandardBomException("Failed to convert component to JSON", e);
+        }
+    }
 }
@@ -0,0 +1,227 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import com.siemens.sbom.standardbom.model.ImmutableBomEntry;
+
+
+/**
+ * The differences between two versions of the same component, as found by {@link StandardBomDiff}.
+ * <p>Only the fields which matter for release comparisons are compared: the version, the hashes, the licenses, and
+ * the properties (which include the custom properties of the Standard BOM).</p>
+ */
+@Immutable
+public final class ComponentChange
+{
+    @Nonnull
+    private final ImmutableBomEntry oldComponent;
+
+    @Nonnull
+    private final ImmutableBomEntry newComponent;
+
+    private final boolean versionChanged;
+
+    @Nonnull
+    private final Set<String> changedHashes;
+
+    @Nonnull
+    private final Set<String> addedLicenses;
+
+    @Nonnull
+    private final Set<String> removedLicenses;
+
+    @Nonnull
+    private final Set<String> changedProperties;
+
+
+
+    private ComponentChange(@Nonnull final ImmutableBomEntry pOldComponent,
+        @Nonnull final ImmutableBomEntry pNewComponent, final boolean pVersionChanged,
+        @Nonnull final Set<String> pChangedHashes, @Nonnull final Set<String> pAddedLicenses,
+        @Nonnull final Set<String> pRemovedLicenses, @Nonnull final Set<String> pChangedProperties)
+    {
+        oldComponent = pOldComponent;
+        newComponent = pNewComponent;
+        versionChanged = pVersionChanged;
+        changedHashes = pChangedHashes;
+        addedLicenses = pAddedLicenses;
+        removedLicenses = pRemovedLicenses;
+        changedProperties = pChangedProperties;
+    }
+
+
+
+    /**
+     * Compare two versions of the same component.
+     *
+     * @param pOldComponent the component as found in the old SBOM
+     * @param pNewComponent the component as found in the new SBOM
+     * @return the differences, or <code>null</code> if there are none
+     */
+    @CheckForNull
+    static ComponentChange compare(@Nonnull final ImmutableBomEntry pOldComponent,
+        @Nonnull final ImmutableBomEntry pNewComponent)
+    {
+        final boolean versionChanged = !Objects.equals(pOldComponent.getVersion(), pNewComponent.getVersion());
+        final Set<String> changedHashes = changedKeys(pOldComponent.getHashes(), pNewComponent.getHashes(), true);
+        final Set<String> oldLicenses = licensesOf(pOldComponent);
+        final Set<String> newLicenses = licensesOf(pNewComponent);
+        final Set<String> addedLicenses = difference(newLicenses, oldLicenses);
+        final Set<String> removedLicenses = difference(oldLicenses, newLicenses);
+        final Set<String> changedProperties = changedKeys(pOldComponent.getProperties(),
+            pNewComponent.getProperties(), false);
+
+        if (!versionChanged && changedHashes.isEmpty() && addedLicenses.isEmpty() && removedLicenses.isEmpty()
+            && changedProperties.isEmpty()) {
+            return null;
+        }
+        return new ComponentChange(pOldComponent, pNewComponent, versionChanged, changedHashes, addedLicenses,
+            removedLicenses, changedProperties);
+    }
+
+
+
+    @Nonnull
+    private static Set<String> changedKeys(@Nonnull final Map<String, String> pOld,
+        @Nonnull final Map<String, String> pNew, final boolean pIgnoreCase)
+    {
+        if (pOld.equals(pNew)) {
+            return Collections.emptySet();
+        }
+        final Set<String> result = new TreeSet<>();
+        for (Map.Entry<String, String> entry : pOld.entrySet()) {
+            final String newValue = pNew.get(entry.getKey());
+            if (newValue == null || (pIgnoreCase ? !newValue.equalsIgnoreCase(entry.getValue())
+                : !newValue.equals(entry.getValue()))) {
+                result.add(entry.getKey());
+            }
+        }
+        for (String key : pNew.keySet()) {
+            if (!pOld.containsKey(key)) {
+                result.add(key);
+            }
+        }
+        return result.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(result);
+    }
+
+
+
+    @Nonnull
+    private static Set<String> licensesOf(@Nonnull final ImmutableBomEntry pComponent)
+    {
+        final Set<String> result = new TreeSet<>(pComponent.getLicenses());
+        if (pComponent.getLicenseExpression() != null) {
+            result.add(pComponent.getLicenseExpression());
+        }
+        return result;
+    }
+
+
+
+    @Nonnull
+    private static Set<String> difference(@Nonnull final Set<String> pSet, @Nonnull final Set<String> pOther)
+    {
+        final Set<String> result = new TreeSet<>(pSet);
+        result.removeAll(pOther);
+        return result.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(result);
+    }
+
+
+
+    @Nonnull
+    public ImmutableBomEntry getOldComponent()
+    {
+        return oldComponent;
+    }
+
+
+
+    @Nonnull
+    public ImmutableBomEntry getNewComponent()
+    {
+        return newComponent;
+    }
+
+
+
+    public boolean isVersionChanged()
+    {
+        return versionChanged;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the names of the hash algorithms whose values differ, including those which exist in only one version,
+     * for example <code>SHA-256</code>. Hash values are compared ignoring case.
+     */
+    @Nonnull
+    public Set<String> getChangedHashes()
+    {
+        return changedHashes;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the licenses (SPDX license IDs, names, or expressions) which only the new version has
+     */
+    @Nonnull
+    public Set<String> getAddedLicenses()
+    {
+        return addedLicenses;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the licenses (SPDX license IDs, names, or expressions) which only the old version has
+     */
+    @Nonnull
+    public Set<String> getRemovedLicenses()
+    {
+        return removedLicenses;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the full names of the properties whose values differ, including those which exist in only one version,
+     * for example <code>siemens:primaryLanguage</code>
+     */
+    @Nonnull
+    public Set<String> getChangedProperties()
+    {
+        return changedProperties;
+    }
+
+
+
+    @Override
+    public String toString()
+    {
+        return "ComponentChange{bomRef=" + newComponent.getBomRef() + (versionChanged ? ", version="
+            + oldComponent.getVersion() + "->" + newComponent.getVersion() : "") + ", changedHashes=" + changedHashes
+            + ", addedLicenses=" + addedLicenses + ", removedLicenses=" + removedLicenses + ", changedProperties="
+            + changedProperties + "}";
+    }
+}
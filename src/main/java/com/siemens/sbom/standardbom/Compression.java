@@ -0,0 +1,17 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+/**
+ * Compression formats for Standard BOM files. When reading files, the compression is detected automatically.
+ */
+public enum Compression
+{
+    /** Plain JSON text. */
+    None,
+
+    /** JSON text compressed in gzip format (RFC 1952), as usually indicated by the file extension <code>.gz</code>. */
+    Gzip;
+}
@@ -0,0 +1,213 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.ExternalReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.siemens.sbom.standardbom.internal.CanonicalOrder;
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.ExternalComponent;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Collects components, external components, and dependencies from many threads, and then builds a Standard BOM from
+ * them. Adding never blocks: the items are staged in lock-free queues, and only assembled by {@link #build()}.
+ * <p>The resulting SBOM does not depend on the order in which items were added. Components are sorted like with a
+ * {@link BomEntrySortComparator#BomEntrySortComparator(boolean) deterministic} comparator, external components and
+ * dependencies are sorted by content, and dependencies with the same <code>ref</code> are merged.</p>
+ * <p>The items themselves must not be modified by their adding threads after they have been added.</p>
+ */
+@ThreadSafe
+public class ConcurrentStandardBomBuilder
+{
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentStandardBomBuilder.class);
+
+    private final StandardBom header;
+
+    private final Queue<Component> components = new ConcurrentLinkedQueue<>();
+
+    private final Queue<ExternalReference> externalComponents = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Dependency> dependencies = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean built = new AtomicBoolean(false);
+
+
+
+    /**
+     * Constructor for a builder whose result starts out as an empty SBOM.
+     */
+    public ConcurrentStandardBomBuilder()
+    {
+        this(new StandardBom());
+    }
+
+
+
+    /**
+     * Constructor.
+     *
+     * @param pHeader the SBOM providing the metadata and all other fields. Any components, external components, and
+     * dependencies it already contains are kept and sorted together with the added ones. It is not accessed until
+     * {@link #build()} is called, which returns it.
+     */
+    public ConcurrentStandardBomBuilder(@Nonnull final StandardBom pHeader)
+    {
+        header = Objects.requireNonNull(pHeader, "header was null");
+    }
+
+
+
+    /**
+     * Add a component. May be called by any thread.
+     *
+     * @param pComponent the component to add
+     * @throws IllegalStateException the SBOM has already been built
+     */
+    public void addComponent(@Nonnull final BomEntry pComponent)
+    {
+        checkNotBuilt();
+        components.add(pComponent.getCycloneDxComponent());
+    }
+
+
+
+    /**
+     * Add an external component. May be called by any thread.
+     *
+     * @param pExternalComponent the external component to add
+     * @throws IllegalStateException the SBOM has already been built
+     */
+    public void addExternalComponent(@Nonnull final ExternalComponent pExternalComponent)
+    {
+        checkNotBuilt();
+        externalComponents.add(pExternalComponent.getCycloneDxRef());
+    }
+
+
+
+    /**
+     * Add a dependency. May be called by any thread. If several dependencies with the same <code>ref</code> are
+     * added, they are merged into one.
+     *
+     * @param pDependency the dependency to add
+     * @throws IllegalStateException the SBOM has already been built
+     */
+    public void addDependency(@Nonnull final Dependency pDependency)
+    {
+        checkNotBuilt();
+        dependencies.add(Objects.requireNonNull(pDependency, "dependency was null"));
+    }
+
+
+
+    private void checkNotBuilt()
+    {
+        if (built.get()) {
+            throw new IllegalStateException("The SBOM has already been built");
+        }
+    }
+
+
+
+    /**
+     * Assemble the SBOM from the header and all added items. This method can be called only once, and only after all
+     * adding threads have finished, for example after waiting for their tasks to complete.
+     *
+     * @return the header SBOM, now containing all added items in deterministic order
+     * @throws IllegalStateException the SBOM has already been built
+     */
+    @Nonnull
+    public StandardBom build()
+    {
+        if (!built.compareAndSet(false, true)) {
+            throw new IllegalStateException("The SBOM has already been built");
+        }
+        final Bom bom = header.getCycloneDxBom();
+
+        final List<BomEntry> allComponents = new ArrayList<>(header.getComponents());
+        for (Component component : components) {
+            allComponents.add(new BomEntry(component));
+        }
+        StandardBomSorter.sort(allComponents, true, true);
+        final List<Component> sortedComponents = new ArrayList<>(allComponents.size());
+        for (BomEntry entry : allComponents) {
+            sortedComponents.add(entry.getCycloneDxComponent());
+        }
+        bom.setComponents(sortedComponents);
+
+        final List<ExternalReference> allExtRefs = new ArrayList<>();
+        if (bom.getExternalReferences() != null) {
+            allExtRefs.addAll(bom.getExternalReferences());
+        }
+        allExtRefs.addAll(externalComponents);
+        if (!allExtRefs.isEmpty()) {
+            allExtRefs.sort(CanonicalOrder.EXTERNAL_REFERENCES);
+            bom.setExternalReferences(allExtRefs);
+        }
+
+        final List<Dependency> allDependencies = new ArrayList<>(header.getDependencies());
+        allDependencies.addAll(dependencies);
+        bom.setDependencies(mergeDependencies(allDependencies));
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Built Standard BOM with " + sortedComponents.size() + " components, " + allExtRefs.size()
+                + " external references, and " + bom.getDependencies().size() + " dependencies");
+        }
+        return header;
+    }
+
+
+
+    @Nonnull
+    private static List<Dependency> mergeDependencies(@Nonnull final List<Dependency> pDependencies)
+    {
+        final Map<String, List<Dependency>> byRef = new LinkedHashMap<>();
+        for (Dependency dependency : pDependencies) {
+            byRef.computeIfAbsent(dependency.getRef(), pRef -> new ArrayList<>()).add(dependency);
+        }
+
+        final List<Dependency> result = new ArrayList<>(byRef.size());
+        for (Map.Entry<String, List<Dependency>> entry : byRef.entrySet()) {
+            final Map<String, Dependency> dependsOn = new LinkedHashMap<>();
+            boolean hasList = false;
+            for (Dependency dependency : entry.getValue()) {
+                if (dependency.getDependencies() != null) {
+                    hasList = true;
+                    for (Dependency target : dependency.getDependencies()) {
+                        dependsOn.putIfAbsent(target.getRef(), target);
+                    }
+                }
+            }
+            // always a new instance, so that the dependencies passed in by the caller are never modified
+            final Dependency merged = new Dependency(entry.getKey());
+            if (hasList) {
+                final List<Dependency> targets = new ArrayList<>(dependsOn.values());
+                targets.sort(CanonicalOrder.DEPENDENCIES);
+                merged.setDependencies(targets);
+            }
+            result.add(merged);
+        }
+        result.sort(CanonicalOrder.DEPENDENCIES);
+        return result;
+    }
+}
@@ -0,0 +1,570 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.cyclonedx.model.Dependency;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.ImmutableBomEntry;
+import com.siemens.sbom.standardbom.model.ImmutableStandardBom;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * An index of the dependencies of a Standard BOM, for answering questions like "what depends on X" or "what are the
+ * transitive dependencies of Y" without walking the CycloneDX dependency lists again and again.
+ * <p>Every bom-ref is mapped to an <code>int</code> ID. The direct dependencies and the direct dependents of each node
+ * are kept in compact adjacency arrays (compressed sparse rows), so a graph of 50,000 nodes and edges needs only a few
+ * hundred kilobytes apart from the bom-ref Strings. Duplicate edges and dependencies with the same <code>ref</code>
+ * are merged.</p>
+ * <p>The graph is a snapshot: later changes to the SBOM are not reflected. Instances are immutable, so they can be
+ * queried from any number of threads concurrently.</p>
+ */
+@Immutable
+public final class DependencyGraph
+{
+    /** ID returned for unknown bom-refs */
+    public static final int UNKNOWN = -1;
+
+    /** the bom-ref of each node, indexed by node ID */
+    private final String[] refs;
+
+    private final Map<String, Integer> ids;
+
+    /** the direct dependencies of node <code>n</code> are at indexes <code>[n] .. [n+1]-1</code> of the targets */
+    private final int[] forwardOffsets;
+
+    private final int[] forwardTargets;
+
+    /** the direct dependents of node <code>n</code> are at indexes <code>[n] .. [n+1]-1</code> of the sources */
+    private final int[] reverseOffsets;
+
+    private final int[] reverseSources;
+
+    /** the node IDs with dependencies before their dependents, or <code>null</code> if the graph has cycles */
+    @CheckForNull
+    private final int[] topologicalOrder;
+
+
+
+    /**
+     * Collects nodes and edges while the graph is being created.
+     */
+    private static final class GraphBuilder
+    {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final List<String> refs = new ArrayList<>();
+
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        private int[] edgeSources = new int[INITIAL_CAPACITY];
+
+        private int[] edgeTargets = new int[INITIAL_CAPACITY];
+
+        private int numEdges = 0;
+
+
+
+        int node(@Nonnull final String pRef)
+        {
+            Integer result = ids.get(pRef);
+            if (result == null) {
+                result = refs.size();
+                ids.put(pRef, result);
+                refs.add(pRef);
+            }
+            return result;
+        }
+
+
+
+        void edge(@Nonnull final String pFrom, @Nonnull final String pTo)
+        {
+            if (numEdges == edgeSources.length) {
+                edgeSources = Arrays.copyOf(edgeSources, numEdges * 2);
+                edgeTargets = Arrays.copyOf(edgeTargets, numEdges * 2);
+            }
+            edgeSources[numEdges] = node(pFrom);
+            edgeTargets[numEdges] = node(pTo);
+            numEdges++;
+        }
+    }
+
+
+
+    /**
+     * Create the dependency graph of a Standard BOM. The nodes are the bom-refs of its components, plus any bom-refs
+     * which only occur in its dependencies. The SBOM is not modified.
+     *
+     * @param pBom the SBOM
+     */
+    public DependencyGraph(@Nonnull final StandardBom pBom)
+    {
+        this(fromStandardBom(pBom));
+    }
+
+
+
+    /**
+     * Create the dependency graph of a Standard BOM snapshot.
+     *
+     * @param pBom the SBOM snapshot
+     * @see #DependencyGraph(StandardBom)
+     */
+    public DependencyGraph(@Nonnull final ImmutableStandardBom pBom)
+    {
+        this(fromImmutableStandardBom(pBom));
+    }
+
+
+
+    private DependencyGraph(@Nonnull final GraphBuilder pBuilder)
+    {
+        final int numNodes = pBuilder.refs.size();
+        refs = pBuilder.refs.toArray(new String[0]);
+        ids = pBuilder.ids;
+
+        forwardOffsets = new int[numNodes + 1];
+        forwardTargets = toAdjacency(pBuilder.edgeSources, pBuilder.edgeTargets, pBuilder.numEdges, forwardOffsets);
+        final int[] sources = new int[forwardTargets.length];
+        for (int node = 0; node < numNodes; node++) {
+            Arrays.fill(sources, forwardOffsets[node], forwardOffsets[node + 1], node);
+        }
+        reverseOffsets = new int[numNodes + 1];
+        reverseSources = toAdjacency(forwardTargets, sources, sources.length, reverseOffsets);
+
+        topologicalOrder = sortTopologically();
+    }
+
+
+
+    @Nonnull
+    private static GraphBuilder fromStandardBom(@Nonnull final StandardBom pBom)
+    {
+        final GraphBuilder result = new GraphBuilder();
+        for (BomEntry component : pBom.getComponents()) {
+            if (component.getBomRef() != null) {
+                result.node(component.getBomRef());
+            }
+        }
+        final List<Dependency> dependencies = pBom.getCycloneDxBom().getDependencies();
+        if (dependencies != null) {
+            for (Dependency dependency : dependencies) {
+                if (dependency != null && dependency.getRef() != null) {
+                    result.node(dependency.getRef());
+                    if (dependency.getDependencies() != null) {
+                        for (Dependency target : dependency.getDependencies()) {
+                            if (target != null && target.getRef() != null) {
+                                result.edge(dependency.getRef(), target.getRef());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+
+
+    @Nonnull
+    private static GraphBuilder fromImmutableStandardBom(@Nonnull final ImmutableStandardBom pBom)
+    {
+        final GraphBuilder result = new GraphBuilder();
+        for (ImmutableBomEntry component : pBom.getComponents()) {
+            if (component.getBomRef() != null) {
+                result.node(component.getBomRef());
+            }
+        }
+        for (Map.Entry<String, List<String>> entry : pBom.getDependencies().entrySet()) {
+            result.node(entry.getKey());
+            for (String target : entry.getValue()) {
+                result.edge(entry.getKey(), target);
+            }
+        }
+        return result;
+    }
+
+
+
+    /**
+     * Turn an edge list into adjacency arrays by counting sort. The targets of each node are sorted by ID, and
+     * duplicates are removed.
+     *
+     * @param pSources the source node of each edge
+     * @param pTargets the target node of each edge
+     * @param pNumEdges the number of edges
+     * @param pOffsets an array of the number of nodes plus one, which receives the start of each node's targets
+     * @return the targets of all nodes
+     */
+    @Nonnull
+    private static int[] toAdjacency(@Nonnull final int[] pSources, @Nonnull final int[] pTargets,
+        final int pNumEdges, @Nonnull final int[] pOffsets)
+    {
+        final int numNodes = pOffsets.length - 1;
+        for (int i = 0; i < pNumEdges; i++) {
+            pOffsets[pSources[i] + 1]++;
+        }
+        for (int node = 0; node < numNodes; node++) {
+            pOffsets[node + 1] += pOffsets[node];
+        }
+        final int[] result = new int[pNumEdges];
+        final int[] next = Arrays.copyOf(pOffsets, numNodes);
+        for (int i = 0; i < pNumEdges; i++) {
+            result[next[pSources[i]]++] = pTargets[i];
+        }
+
+        int size = 0;
+        for (int node = 0; node < numNodes; node++) {
+            final int start = pOffsets[node];
+            final int end = pOffsets[node + 1];
+            Arrays.sort(result, start, end);
+            pOffsets[node] = size;
+            for (int i = start; i < end; i++) {
+                if (i == start || result[i] != result[i - 1]) {
+                    result[size++] = result[i];
+                }
+            }
+        }
+        pOffsets[numNodes] = size;
+        return size < result.length ? Arrays.copyOf(result, size) : result;
+    }
+
+
+
+    /**
+     * Sort the nodes so that dependencies come before their dependents (Kahn's algorithm).
+     *
+     * @return the sorted node IDs, or <code>null</code> if the graph has cycles
+     */
+    @CheckForNull
+    private int[] sortTopologically()
+    {
+        final int numNodes = refs.length;
+        final int[] remaining = new int[numNodes];
+        final int[] result = new int[numNodes];
+        int tail = 0;
+        for (int node = 0; node < numNodes; node++) {
+            remaining[node] = forwardOffsets[node + 1] - forwardOffsets[node];
+            if (remaining[node] == 0) {
+                result[tail++] = node;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            final int node = result[head];
+            for (int i = reverseOffsets[node]; i < reverseOffsets[node + 1]; i++) {
+                final int dependent = reverseSources[i];
+                if (--remaining[dependent] == 0) {
+                    result[tail++] = dependent;
+                }
+            }
+        }
+        return tail == numNodes ? result : null;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the number of nodes in this graph
+     */
+    public int size()
+    {
+        return refs.length;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the number of distinct edges in this graph
+     */
+    public int getEdgeCount()
+    {
+        return forwardTargets.length;
+    }
+
+
+
+    /**
+     * Look up the ID of a node.
+     *
+     * @param pBomRef a bom-ref
+     * @return the ID of the node with the given bom-ref, or {@link #UNKNOWN} if no such node exists
+     */
+    public int getId(@Nullable final String pBomRef)
+    {
+        final Integer result = pBomRef != null ? ids.get(pBomRef) : null;
+        return result != null ? result : UNKNOWN;
+    }
+
+
+
+    /**
+     * Look up the bom-ref of a node.
+     *
+     * @param pId the ID of a node
+     * @return the bom-ref of the node
+     * @throws IndexOutOfBoundsException the ID is not valid
+     */
+    @Nonnull
+    public String getBomRef(final int pId)
+    {
+        return refs[pId];
+    }
+
+
+
+    @Nonnull
+    private List<String> toBomRefs(@Nonnull final int[] pIds, final int pFrom, final int pTo)
+    {
+        if (pFrom == pTo) {
+            return Collections.emptyList();
+        }
+        final List<String> result = new ArrayList<>(pTo - pFrom);
+        for (int i = pFrom; i < pTo; i++) {
+            result.add(refs[pIds[i]]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+
+
+    /**
+     * Look up the components which the given component directly depends on.
+     *
+     * @param pBomRef the bom-ref of the component
+     * @return the bom-refs of the direct dependencies, which is empty if the component is unknown
+     */
+    @Nonnull
+    public List<String> getDirectDependencies(@Nullable final String pBomRef)
+    {
+        final int id = getId(pBomRef);
+        return id != UNKNOWN ? toBomRefs(forwardTargets, forwardOffsets[id], forwardOffsets[id + 1])
+            : Collections.emptyList();
+    }
+
+
+
+    /**
+     * Look up the components which directly depend on the given component.
+     *
+     * @param pBomRef the bom-ref of the component
+     * @return the bom-refs of the direct dependents, which is empty if the component is unknown
+     */
+    @Nonnull
+    public List<String> getDirectDependents(@Nullable final String pBomRef)
+    {
+        final int id = getId(pBomRef);
+        return id != UNKNOWN ? toBomRefs(reverseSources, reverseOffsets[id], reverseOffsets[id + 1])
+            : Collections.emptyList();
+    }
+
+
+
+    /**
+     * Determine all components which the given component depends on, directly or indirectly.
+     *
+     * @param pBomRef the bom-ref of the component
+     * @return the bom-refs of the transitive dependencies in breadth-first order, not including the given component
+     * itself unless it is part of a cycle. Empty if the component is unknown.
+     */
+    @Nonnull
+    public List<String> getTransitiveDependencies(@Nullable final String pBomRef)
+    {
+        return reachable(Collections.singleton(pBomRef), forwardOffsets, forwardTargets);
+    }
+
+
+
+    /**
+     * Determine all components which depend on the given component, directly or indirectly. For example, these are
+     * the components affected by a vulnerability in the given component.
+     *
+     * @param pBomRef the bom-ref of the component
+     * @return the bom-refs of the transitive dependents in breadth-first order, not including the given component
+     * itself unless it is part of a cycle. Empty if the component is unknown.
+     */
+    @Nonnull
+    public List<String> getTransitiveDependents(@Nullable final String pBomRef)
+    {
+        return reachable(Collections.singleton(pBomRef), reverseOffsets, reverseSources);
+    }
+
+
+
+    /**
+     * Determine all components which depend on any of the given components, directly or indirectly.
+     *
+     * @param pBomRefs the bom-refs of the components. Unknown bom-refs are ignored.
+     * @return the bom-refs of the transitive dependents in breadth-first order, not including the given components
+     * unless they depend on each other
+     */
+    @Nonnull
+    public List<String> getTransitiveDependents(@Nonnull final Collection<String> pBomRefs)
+    {
+        return reachable(pBomRefs, reverseOffsets, reverseSources);
+    }
+
+
+
+    @Nonnull
+    private List<String> reachable(@Nonnull final Collection<String> pStart, @Nonnull final int[] pOffsets,
+        @Nonnull final int[] pTargets)
+    {
+        final boolean[] visited = new boolean[refs.length];
+        final int[] queue = new int[refs.length];
+        int tail = 0;
+        for (String bomRef : pStart) {
+            final int id = getId(bomRef);
+            if (id != UNKNOWN) {
+                for (int i = pOffsets[id]; i < pOffsets[id + 1]; i++) {
+                    if (!visited[pTargets[i]]) {
+                        visited[pTargets[i]] = true;
+                        queue[tail++] = pTargets[i];
+                    }
+                }
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            final int node = queue[head];
+            for (int i = pOffsets[node]; i < pOffsets[node + 1]; i++) {
+                if (!visited[pTargets[i]]) {
+                    visited[pTargets[i]] = true;
+                    queue[tail++] = pTargets[i];
+                }
+            }
+        }
+        return toBomRefs(queue, 0, tail);
+    }
+
+
+
+    /**
+     * Determine if there are any dependency cycles in this graph.
+     *
+     * @return <code>true</code> if there are cycles
+     */
+    public boolean hasCycles()
+    {
+        return topologicalOrder == null;
+    }
+
+
+
+    /**
+     * Sort the nodes of this graph so that each component comes after all of its dependencies, for example in
+     * build order.
+     *
+     * @return the bom-refs of all nodes in topological order, or <code>null</code> if the graph has cycles
+     */
+    @CheckForNull
+    public List<String> getTopologicalOrder()
+    {
+        return topologicalOrder != null ? toBomRefs(topologicalOrder, 0, topologicalOrder.length) : null;
+    }
+
+
+
+    /**
+     * Find the dependency cycles in this graph. Each cycle is reported as a strongly connected component, i.e&#46; a
+     * maximal set of nodes which all depend on each other, so overlapping cycles are reported together.
+     *
+     * @return the nodes of each cycle, ordered by ID. Empty if there are no cycles.
+     */
+    @Nonnull
+    public List<List<String>> getCycles()
+    {
+        if (!hasCycles()) {
+            return Collections.emptyList();
+        }
+
+        // Tarjan's algorithm, with an explicit call stack so that long dependency chains don't overflow the JVM stack
+        final int numNodes = refs.length;
+        final int[] index = new int[numNodes];
+        Arrays.fill(index, UNKNOWN);
+        final int[] lowLink = new int[numNodes];
+        final boolean[] onStack = new boolean[numNodes];
+        final int[] stack = new int[numNodes];
+        final int[] callStack = new int[numNodes];
+        final int[] edgePos = new int[numNodes];
+        final List<List<String>> result = new ArrayList<>();
+        int counter = 0;
+        int sp = 0;
+
+        for (int start = 0; start < numNodes; start++) {
+            if (index[start] != UNKNOWN) {
+                continue;
+            }
+            int csp = 0;
+            index[start] = counter;
+            lowLink[start] = counter++;
+            stack[sp++] = start;
+            onStack[start] = true;
+            callStack[csp] = start;
+            edgePos[csp++] = forwardOffsets[start];
+
+            while (csp > 0) {
+                final int node = callStack[csp - 1];
+                if (edgePos[csp - 1] < forwardOffsets[node + 1]) {
+                    final int target = forwardTargets[edgePos[csp - 1]++];
+                    if (index[target] == UNKNOWN) {
+                        index[target] = counter;
+                        lowLink[target] = counter++;
+                        stack[sp++] = target;
+                        onStack[target] = true;
+                        callStack[csp] = target;
+                        edgePos[csp++] = forwardOffsets[target];
+                    }
+                    else if (onStack[target]) {
+                        lowLink[node] = Math.min(lowLink[node], index[target]);
+                    }
+                    continue;
+                }
+
+                csp--;
+                if (csp > 0) {
+                    final int parent = callStack[csp - 1];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                }
+                if (lowLink[node] == index[node]) {
+                    int bottom = sp;
+                    do {
+                        onStack[stack[--bottom]] = false;
+                    } while (stack[bottom] != node);
+                    if (sp - bottom > 1 || hasEdge(node, node)) {
+                        final int[] members = Arrays.copyOfRange(stack, bottom, sp);
+                        Arrays.sort(members);
+                        result.add(toBomRefs(members, 0, members.length));
+                    }
+                    sp = bottom;
+                }
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+
+
+    private boolean hasEdge(final int pFrom, final int pTo)
+    {
+        return Arrays.binarySearch(forwardTargets, forwardOffsets[pFrom], forwardOffsets[pFrom + 1], pTo) >= 0;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+/**
+ * Layout of the JSON text written for a Standard BOM. The content is the same in all cases.
+ */
+public enum OutputStyle
+{
+    /** Indented and line-wrapped, exactly like the CycloneDX generator. This is the default. */
+    Pretty,
+
+    /** No whitespace between tokens at all, for machine-to-machine transfer and storage. */
+    Compact,
+
+    /**
+     * Like {@link #Compact}, but all lists whose order carries no meaning are written sorted by content: components,
+     * external components, and dependencies; the hashes, external references, properties, authors, licenses, and
+     * subcomponents of components at any level; and the authors, tools, licenses, and properties of the metadata.
+     * Two SBOMs with the same content therefore always produce exactly the same output, regardless of insertion order.
+     * <p>When writing with a {@link StandardBomWriter}, only the items already present in the header are sorted.
+     * Items added to the writer one by one are written in the order in which they are added.</p>
+     */
+    Canonical;
+}
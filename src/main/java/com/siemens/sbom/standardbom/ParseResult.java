@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * The outcome of parsing one file in a batch: either the parsed SBOM, or the error which prevented parsing it.
+ */
+public final class ParseResult
+{
+    private final Path path;
+
+    private final StandardBom bom;
+
+    private final Exception error;
+
+
+
+    ParseResult(@Nonnull final Path pPath, @Nullable final StandardBom pBom, @Nullable final Exception pError)
+    {
+        path = Objects.requireNonNull(pPath, "path was null");
+        bom = pBom;
+        error = pError;
+    }
+
+
+
+    @Nonnull
+    public Path getPath()
+    {
+        return path;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the parsed SBOM, or <code>null</code> if parsing failed
+     */
+    @CheckForNull
+    public StandardBom getBom()
+    {
+        return bom;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the reason why parsing failed, or <code>null</code> if it succeeded. This is the exception which
+     * {@link StandardBomParser#parse(Path)} would have thrown.
+     */
+    @CheckForNull
+    public Exception getError()
+    {
+        return error;
+    }
+
+
+
+    public boolean isSuccess()
+    {
+        return error == null;
+    }
+
+
+
+    @Override
+    public String toString()
+    {
+        return "ParseResult{path=" + path + ", " + (isSuccess() ? "success" : "error=" + error) + "}";
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+/**
+ * How a Standard BOM file is replaced when it is saved.
+ */
+public enum SaveMode
+{
+    /**
+     * Truncate the file and write the new content into it. Readers may see a partially written file, and if the
+     * process dies while writing, the file remains incomplete. This is the default.
+     */
+    Overwrite,
+
+    /**
+     * Write the new content to a temporary file in the same directory, and then move it over the target file in one
+     * atomic step. Readers see either the old or the new file, never a partial one.
+     */
+    Atomic,
+
+    /**
+     * Like {@link #Atomic}, but the temporary file is also forced to disk before it is moved, and the directory
+     * afterwards where the platform supports it. The new file then survives a system crash once saving returns.
+     */
+    Durable;
+}
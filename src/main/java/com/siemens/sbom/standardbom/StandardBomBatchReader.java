@@ -0,0 +1,180 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Parses a batch of Standard BOM files on an {@link Executor}, providing the results in the order in which they
+ * complete.
+ * <p>Only a limited number of files is in flight at any time, i.e. being parsed or parsed but not yet taken via
+ * {@link #next()}. The next file is only submitted when a result has been taken. This way, a slow consumer slows down
+ * parsing instead of filling up the heap with parsed SBOMs.</p>
+ * <p>Instances are obtained via {@link StandardBomParser#parseAll(Collection, Executor, int)}. Closing a reader
+ * cancels all files which have not been started yet. The executor itself is never shut down.</p>
+ */
+@NotThreadSafe
+public class StandardBomBatchReader
+    implements Iterator<ParseResult>, Closeable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(StandardBomBatchReader.class);
+
+    private final StandardBomParser parser;
+
+    private final Iterator<Path> pending;
+
+    private final CompletionService<ParseResult> completionService;
+
+    private final List<Future<ParseResult>> inFlight;
+
+    private boolean closed = false;
+
+
+
+    StandardBomBatchReader(@Nonnull final StandardBomParser pParser, @Nonnull final Collection<Path> pFiles,
+        @Nonnull final Executor pExecutor, final int pMaxInFlight)
+    {
+        if (pMaxInFlight < 1) {
+            throw new IllegalArgumentException("maximum number of files in flight must be positive: "
+                + pMaxInFlight);
+        }
+        parser = pParser;
+        pending = new ArrayList<>(pFiles).iterator();
+        completionService = new ExecutorCompletionService<>(pExecutor);
+        inFlight = new ArrayList<>(pMaxInFlight);
+        for (int i = 0; i < pMaxInFlight && pending.hasNext(); i++) {
+            submitNext();
+        }
+    }
+
+
+
+    private void submitNext()
+    {
+        final Path file = pending.next();
+        inFlight.add(completionService.submit(() -> parseFile(file)));
+    }
+
+
+
+    @Nonnull
+    private ParseResult parseFile(@Nonnull final Path pFile)
+    {
+        try {
+            return new ParseResult(pFile, parser.parse(pFile), null);
+        }
+        catch (Exception e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Failed to parse Standard BOM: " + pFile, e);
+            }
+            return new ParseResult(pFile, null, e);
+        }
+    }
+
+
+
+    @Override
+    public boolean hasNext()
+    {
+        return !inFlight.isEmpty();
+    }
+
+
+
+    /**
+     * Wait for the next file to be parsed.
+     *
+     * @return the result of the next file to complete
+     * @throws NoSuchElementException all results have been taken
+     * @throws StandardBomException the current thread was interrupted while waiting
+     */
+    @Override
+    public ParseResult next()
+    {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final Future<ParseResult> future;
+        try {
+            future = completionService.take();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StandardBomException("Interrupted while waiting for the next parse result", e);
+        }
+        inFlight.remove(future);
+        if (!closed && pending.hasNext()) {
+            submitNext();
+        }
+
+        try {
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StandardBomException("Interrupted while waiting for the next parse result", e);
+        }
+        catch (ExecutionException e) {
+            // only Errors get here, because exceptions are part of the parse result
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new StandardBomException("Failed to parse Standard BOM", e.getCause());
+        }
+    }
+
+
+
+    /**
+     * Provide the remaining results as a sequential {@link Stream}. Closing the stream also closes this reader.
+     *
+     * @return a stream of parse results, in the order in which they complete
+     */
+    @Nonnull
+    public Stream<ParseResult> stream()
+    {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+            Spliterator.NONNULL), false)
+            .onClose(this::close);
+    }
+
+
+
+    /**
+     * Stop submitting files, and cancel those which have been submitted but not started yet. Files which are being
+     * parsed at this moment are not interrupted, and their results are discarded.
+     */
+    @Override
+    public void close()
+    {
+        closed = true;
+        for (Future<ParseResult> future : inFlight) {
+            future.cancel(false);
+        }
+        inFlight.clear();
+    }
+}
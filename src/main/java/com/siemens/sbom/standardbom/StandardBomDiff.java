@@ -0,0 +1,482 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.Metadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.siemens.sbom.standardbom.internal.ComponentIdentity;
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.ImmutableBomEntry;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Finds the components and dependencies which were added, removed, or changed between two versions of an SBOM, and
+ * reports them to a {@link StandardBomDiffListener}.
+ * <p>Components are matched on their identity key (see {@link StandardBomMerger}), using hash maps, so that the
+ * effort is proportional to the number of components. Components which remain unmatched are then matched on their
+ * package URL without version, or group and name, so that a version update is reported as a change instead of a
+ * removal plus an addition. Dependencies are compared via the matched components, so that they are not affected by
+ * changed bom-refs.</p>
+ * <p>The old SBOM is indexed completely, as {@link ImmutableBomEntry read-only snapshots} of its components. The new
+ * SBOM is compared one component at a time. Components which are matched on their identity key are reported as
+ * changed right away, and components for which the old SBOM has no component with the same package URL without
+ * version, or group and name, are reported as added right away. Only the remaining components of the new SBOM are
+ * held in memory until the last component has been read, along with the bom-refs of all components of the new SBOM,
+ * which are needed to compare the dependencies. Removals and changed dependencies are reported last.</p>
+ */
+@Immutable
+public class StandardBomDiff
+{
+    private static final Logger LOG = LoggerFactory.getLogger(StandardBomDiff.class);
+
+    /** stands for the metadata component in dependencies, whose bom-ref may differ between versions */
+    private static final String METADATA_COMPONENT = (char) 0 + "metadata";
+
+
+
+    /**
+     * A component of the old SBOM, along with the state of its matching.
+     */
+    private static final class OldComponent
+    {
+        @CheckForNull
+        private final String key;
+
+        @Nonnull
+        private final ImmutableBomEntry entry;
+
+        /** the next component of the old SBOM which has the same identity key */
+        @CheckForNull
+        private OldComponent sameKey = null;
+
+        /**
+         * the last component of the chain of components with the same identity key; only kept up to date in the
+         * first component of the chain, while indexing
+         */
+        @Nonnull
+        private OldComponent lastSameKey = this;
+
+        /** the identity key of the matching component of the new SBOM, or <code>null</code> if there is none */
+        @CheckForNull
+        private String matchedKey = null;
+
+
+
+        OldComponent(@Nullable final String pKey, @Nonnull final ImmutableBomEntry pEntry)
+        {
+            key = pKey;
+            entry = pEntry;
+        }
+    }
+
+
+
+    /**
+     * A component of the new SBOM which has no counterpart with the same identity key in the old SBOM, but which may
+     * still be matched by its unversioned key.
+     */
+    private static final class NewComponent
+    {
+        @CheckForNull
+        private final String key;
+
+        @Nonnull
+        private final ImmutableBomEntry entry;
+
+
+
+        NewComponent(@Nullable final String pKey, @Nonnull final ImmutableBomEntry pEntry)
+        {
+            key = pKey;
+            entry = pEntry;
+        }
+    }
+
+
+
+    /**
+     * Compare two SBOMs which are held in memory. They are not modified.
+     *
+     * @param pOld the old SBOM
+     * @param pNew the new SBOM
+     * @param pListener receives the results
+     */
+    public void diff(@Nonnull final StandardBom pOld, @Nonnull final StandardBom pNew,
+        @Nonnull final StandardBomDiffListener pListener)
+    {
+        diff(pOld.getComponents().iterator(), () -> pOld, pNew.getComponents().iterator(), () -> pNew, pListener);
+    }
+
+
+
+    /**
+     * Compare two SBOMs which are being read one component at a time. The old SBOM is read completely before reading
+     * of the new SBOM starts. The readers are not closed.
+     *
+     * @param pOld reader of the old SBOM
+     * @param pNew reader of the new SBOM
+     * @param pListener receives the results
+     * @throws StandardBomException error reading one of the SBOMs
+     */
+    public void diff(@Nonnull final StandardBomReader pOld, @Nonnull final StandardBomReader pNew,
+        @Nonnull final StandardBomDiffListener pListener)
+    {
+        diff(pOld, pOld::getHeader, pNew, pNew::getHeader, pListener);
+    }
+
+
+
+    /**
+     * Compare two SBOM files without reading either of them into memory completely. Only JSON input is supported,
+     * which may be gzip-compressed.
+     *
+     * @param pOldFile the old SBOM
+     * @param pNewFile the new SBOM
+     * @param pListener receives the results
+     * @throws java.nio.file.NoSuchFileException one of the given files was not found
+     * @throws StandardBomException one of the files is not a JSON document
+     * @throws IOException I/O error reading the files, or syntax error in JSON
+     * @see StandardBomParser#streamComponents(Path)
+     */
+    public void diff(@Nonnull final Path pOldFile, @Nonnull final Path pNewFile,
+        @Nonnull final StandardBomDiffListener pListener)
+        throws IOException
+    {
+        final StandardBomParser parser = new StandardBomParser();
+        try (StandardBomReader oldReader = parser.streamComponents(pOldFile);
+            StandardBomReader newReader = parser.streamComponents(pNewFile)) {
+            diff(oldReader, newReader, pListener);
+        }
+    }
+
+
+
+    private void diff(@Nonnull final Iterator<BomEntry> pOldComponents, @Nonnull final Supplier<StandardBom> pOldHeader,
+        @Nonnull final Iterator<BomEntry> pNewComponents, @Nonnull final Supplier<StandardBom> pNewHeader,
+        @Nonnull final StandardBomDiffListener pListener)
+    {
+        final Map<String, OldComponent> oldByKey = new HashMap<>();
+        final Set<String> oldUnversionedKeys = new HashSet<>();
+        final List<OldComponent> oldComponents = index(pOldComponents, oldByKey, oldUnversionedKeys);
+
+        final Map<String, String> newKeysByRef = new HashMap<>();
+        final List<NewComponent> unmatched = new ArrayList<>();
+        int matched = 0;
+        while (pNewComponents.hasNext()) {
+            final BomEntry bomEntry = pNewComponents.next();
+            final String key = ComponentIdentity.keyOf(bomEntry.getCycloneDxComponent());
+            final ImmutableBomEntry entry = new ImmutableBomEntry(bomEntry);
+            final OldComponent match = key != null ? pollUnmatched(oldByKey, key) : null;
+            if (match != null) {
+                match.matchedKey = key;
+                matched++;
+                putRef(newKeysByRef, entry, key);
+                reportChange(match.entry, entry, pListener);
+            }
+            else {
+                putRef(newKeysByRef, entry, null);
+                final String unversionedKey = unversionedKeyOf(entry);
+                if (unversionedKey != null && oldUnversionedKeys.contains(unversionedKey)) {
+                    unmatched.add(new NewComponent(key, entry));
+                }
+                else {
+                    pListener.componentAdded(entry);
+                }
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Matched " + matched + " of " + oldComponents.size()
+                + " old components by identity key, " + unmatched.size() + " new components remain");
+        }
+
+        matchUnversioned(oldComponents, unmatched, newKeysByRef, pListener);
+        for (OldComponent oldComponent : oldComponents) {
+            if (oldComponent.matchedKey == null) {
+                pListener.componentRemoved(oldComponent.entry);
+            }
+        }
+
+        final Map<String, OldComponent> oldByRef = new HashMap<>();
+        for (OldComponent oldComponent : oldComponents) {
+            if (oldComponent.entry.getBomRef() != null) {
+                oldByRef.putIfAbsent(oldComponent.entry.getBomRef(), oldComponent);
+            }
+        }
+        final StandardBom oldHeader = pOldHeader.get();
+        final String oldMetadataRef = getMetadataRef(oldHeader);
+        final Function<String, String> oldTokens = ref -> {
+            final OldComponent oldComponent = oldByRef.get(ref);
+            if (oldComponent != null) {
+                return oldComponent.matchedKey;
+            }
+            return ref.equals(oldMetadataRef) ? METADATA_COMPONENT : ref;
+        };
+        final StandardBom newHeader = pNewHeader.get();
+        final String newMetadataRef = getMetadataRef(newHeader);
+        final Function<String, String> newTokens = ref -> {
+            if (newKeysByRef.containsKey(ref)) {
+                return newKeysByRef.get(ref);
+            }
+            return ref.equals(newMetadataRef) ? METADATA_COMPONENT : ref;
+        };
+        diffDependencies(getDependencies(oldHeader), oldTokens, getDependencies(newHeader), newTokens, pListener);
+    }
+
+
+
+    /**
+     * Take snapshots of the components of the old SBOM and index them by identity key.
+     *
+     * @param pComponents the components of the old SBOM
+     * @param pByKey map to fill with the first component for each identity key. Further components with the same key
+     * are chained via {@link OldComponent#sameKey}.
+     * @param pUnversionedKeys set to fill with the package URLs without version, or groups and names, of all components
+     * @return all components of the old SBOM, in their original order
+     */
+    @Nonnull
+    private static List<OldComponent> index(@Nonnull final Iterator<BomEntry> pComponents,
+        @Nonnull final Map<String, OldComponent> pByKey, @Nonnull final Set<String> pUnversionedKeys)
+    {
+        final List<OldComponent> result = new ArrayList<>();
+        while (pComponents.hasNext()) {
+            final BomEntry bomEntry = pComponents.next();
+            final OldComponent oldComponent = new OldComponent(
+                ComponentIdentity.keyOf(bomEntry.getCycloneDxComponent()), new ImmutableBomEntry(bomEntry));
+            result.add(oldComponent);
+            if (oldComponent.key != null) {
+                final OldComponent first = pByKey.putIfAbsent(oldComponent.key, oldComponent);
+                if (first != null) {
+                    first.lastSameKey.sameKey = oldComponent;
+                    first.lastSameKey = oldComponent;
+                }
+            }
+            final String unversionedKey = unversionedKeyOf(oldComponent.entry);
+            if (unversionedKey != null) {
+                pUnversionedKeys.add(unversionedKey);
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Indexed " + result.size() + " components of the old SBOM");
+        }
+        return result;
+    }
+
+
+
+    /**
+     * Remove the first component with the given identity key from the index, so that the map always points to the
+     * first component of each key which has not been matched yet.
+     *
+     * @param pByKey the index of the old SBOM
+     * @param pKey the identity key
+     * @return the first unmatched component of the old SBOM with the given key, or <code>null</code> if there is none
+     */
+    @CheckForNull
+    private static OldComponent pollUnmatched(@Nonnull final Map<String, OldComponent> pByKey,
+        @Nonnull final String pKey)
+    {
+        final OldComponent result = pByKey.get(pKey);
+        if (result != null) {
+            if (result.sameKey != null) {
+                pByKey.put(pKey, result.sameKey);
+            }
+            else {
+                pByKey.remove(pKey);
+            }
+        }
+        return result;
+    }
+
+
+
+    private static void putRef(@Nonnull final Map<String, String> pKeysByRef, @Nonnull final ImmutableBomEntry pEntry,
+        @Nullable final String pKey)
+    {
+        if (pEntry.getBomRef() != null) {
+            pKeysByRef.putIfAbsent(pEntry.getBomRef(), pKey);
+        }
+    }
+
+
+
+    private static void reportChange(@Nonnull final ImmutableBomEntry pOld, @Nonnull final ImmutableBomEntry pNew,
+        @Nonnull final StandardBomDiffListener pListener)
+    {
+        final ComponentChange change = ComponentChange.compare(pOld, pNew);
+        if (change != null) {
+            pListener.componentChanged(change);
+        }
+    }
+
+
+
+    /**
+     * Match the remaining components on their package URL without version, or group and name. If more than one
+     * component has the same such key, they are matched in the order of their occurrence.
+     *
+     * @param pOldComponents all components of the old SBOM
+     * @param pUnmatched the components of the new SBOM which were not matched by identity key, but for which the old
+     * SBOM has a component with the same unversioned key
+     * @param pNewKeysByRef the identity keys of the matched components of the new SBOM by bom-ref, to be updated
+     * @param pListener receives the results
+     */
+    private static void matchUnversioned(@Nonnull final List<OldComponent> pOldComponents,
+        @Nonnull final List<NewComponent> pUnmatched, @Nonnull final Map<String, String> pNewKeysByRef,
+        @Nonnull final StandardBomDiffListener pListener)
+    {
+        final Map<String, ArrayDeque<OldComponent>> candidates = new HashMap<>();
+        for (OldComponent oldComponent : pOldComponents) {
+            if (oldComponent.matchedKey == null) {
+                final String key = unversionedKeyOf(oldComponent.entry);
+                if (key != null) {
+                    candidates.computeIfAbsent(key, k -> new ArrayDeque<>()).add(oldComponent);
+                }
+            }
+        }
+
+        for (NewComponent newComponent : pUnmatched) {
+            final String key = unversionedKeyOf(newComponent.entry);
+            final ArrayDeque<OldComponent> queue = key != null ? candidates.get(key) : null;
+            final OldComponent match = queue != null ? queue.poll() : null;
+            if (match != null) {
+                match.matchedKey = newComponent.key;   // not null, because there is a purl or a name
+                if (newComponent.entry.getBomRef() != null) {
+                    pNewKeysByRef.replace(newComponent.entry.getBomRef(), null, newComponent.key);
+                }
+                reportChange(match.entry, newComponent.entry, pListener);
+            }
+            else {
+                pListener.componentAdded(newComponent.entry);
+            }
+        }
+    }
+
+
+
+    @CheckForNull
+    private static String unversionedKeyOf(@Nonnull final ImmutableBomEntry pEntry)
+    {
+        return ComponentIdentity.unversionedKeyOf(pEntry.getPurl(), pEntry.getGroup(), pEntry.getName());
+    }
+
+
+
+    @CheckForNull
+    private static String getMetadataRef(@Nonnull final StandardBom pHeader)
+    {
+        final Metadata metadata = pHeader.getCycloneDxBom().getMetadata();   // don't create it
+        final Component component = metadata != null ? metadata.getComponent() : null;
+        return component != null ? component.getBomRef() : null;
+    }
+
+
+
+    @Nonnull
+    private static List<Dependency> getDependencies(@Nonnull final StandardBom pHeader)
+    {
+        final List<Dependency> result = pHeader.getCycloneDxBom().getDependencies();   // don't create them
+        return result != null ? result : Collections.emptyList();
+    }
+
+
+
+    /**
+     * Compare the dependencies of both SBOMs. The bom-refs are translated into tokens which are equal for matching
+     * components, so that dependencies match even if the bom-refs of the components have changed.
+     *
+     * @param pOld the dependencies of the old SBOM
+     * @param pOldTokens translates bom-refs of the old SBOM into tokens; returns <code>null</code> for removed
+     * components
+     * @param pNew the dependencies of the new SBOM
+     * @param pNewTokens translates bom-refs of the new SBOM into tokens; returns <code>null</code> for added components
+     * @param pListener receives the results
+     */
+    private static void diffDependencies(@Nonnull final List<Dependency> pOld,
+        @Nonnull final Function<String, String> pOldTokens, @Nonnull final List<Dependency> pNew,
+        @Nonnull final Function<String, String> pNewTokens, @Nonnull final StandardBomDiffListener pListener)
+    {
+        final Map<String, Set<String>> oldEdges = getEdges(pOld, pOldTokens);
+        final Map<String, Set<String>> newEdges = getEdges(pNew, pNewTokens);
+        for (Dependency dependency : pOld) {
+            if (dependency != null && dependency.getRef() != null && dependency.getDependencies() != null) {
+                final String from = pOldTokens.apply(dependency.getRef());
+                for (Dependency target : dependency.getDependencies()) {
+                    if (target != null && target.getRef() != null
+                        && !containsEdge(newEdges, from, pOldTokens.apply(target.getRef()))) {
+                        pListener.dependencyRemoved(dependency.getRef(), target.getRef());
+                    }
+                }
+            }
+        }
+        for (Dependency dependency : pNew) {
+            if (dependency != null && dependency.getRef() != null && dependency.getDependencies() != null) {
+                final String from = pNewTokens.apply(dependency.getRef());
+                for (Dependency target : dependency.getDependencies()) {
+                    if (target != null && target.getRef() != null
+                        && !containsEdge(oldEdges, from, pNewTokens.apply(target.getRef()))) {
+                        pListener.dependencyAdded(dependency.getRef(), target.getRef());
+                    }
+                }
+            }
+        }
+    }
+
+
+
+    @Nonnull
+    private static Map<String, Set<String>> getEdges(@Nonnull final List<Dependency> pDependencies,
+        @Nonnull final Function<String, String> pTokens)
+    {
+        final Map<String, Set<String>> result = new HashMap<>();
+        for (Dependency dependency : pDependencies) {
+            final String from = dependency != null && dependency.getRef() != null
+                ? pTokens.apply(dependency.getRef()) : null;
+            if (from != null && dependency.getDependencies() != null) {
+                for (Dependency target : dependency.getDependencies()) {
+                    final String to = target != null && target.getRef() != null ? pTokens.apply(target.getRef()) : null;
+                    if (to != null) {
+                        result.computeIfAbsent(from, k -> new HashSet<>()).add(to);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+
+
+    private static boolean containsEdge(@Nonnull final Map<String, Set<String>> pEdges, @Nullable final String pFrom,
+        @Nullable final String pTo)
+    {
+        if (pFrom == null || pTo == null) {
+            return false;
+        }
+        final Set<String> targets = pEdges.get(pFrom);
+        return targets != null && targets.contains(pTo);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import javax.annotation.Nonnull;
+
+import com.siemens.sbom.standardbom.model.ImmutableBomEntry;
+
+
+/**
+ * Receives the results of a {@link StandardBomDiff} as they are found. All methods do nothing by default, so that
+ * implementations only need to override the methods they are interested in.
+ */
+public interface StandardBomDiffListener
+{
+    /**
+     * A component exists only in the new SBOM.
+     *
+     * @param pNewComponent the component as found in the new SBOM
+     */
+    default void componentAdded(@Nonnull final ImmutableBomEntry pNewComponent)
+    {
+        // do nothing by default
+    }
+
+
+
+    /**
+     * A component exists only in the old SBOM.
+     *
+     * @param pOldComponent the component as found in the old SBOM
+     */
+    default void componentRemoved(@Nonnull final ImmutableBomEntry pOldComponent)
+    {
+        // do nothing by default
+    }
+
+
+
+    /**
+     * A component exists in both SBOMs, but its version, hashes, licenses, or properties differ.
+     *
+     * @param pChange the differences
+     */
+    default void componentChanged(@Nonnull final ComponentChange pChange)
+    {
+        // do nothing by default
+    }
+
+
+
+    /**
+     * A dependency exists only in the new SBOM.
+     *
+     * @param pRef the bom-ref of the dependent component in the new SBOM
+     * @param pDependsOn the bom-ref of the component it depends on in the new SBOM
+     */
+    default void dependencyAdded(@Nonnull final String pRef, @Nonnull final String pDependsOn)
+    {
+        // do nothing by default
+    }
+
+
+
+    /**
+     * A dependency exists only in the old SBOM.
+     *
+     * @param pRef the bom-ref of the dependent component in the old SBOM
+     * @param pDependsOn the bom-ref of the component it depended on in the old SBOM
+     */
+    default void dependencyRemoved(@Nonnull final String pRef, @Nonnull final String pDependsOn)
+    {
+        // do nothing by default
+    }
+}
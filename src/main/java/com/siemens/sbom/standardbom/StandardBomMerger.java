@@ -0,0 +1,605 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.ExternalReference;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.License;
+import org.cyclonedx.model.LicenseChoice;
+import org.cyclonedx.model.Property;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.siemens.sbom.standardbom.internal.ComponentIdentity;
+import com.siemens.sbom.standardbom.internal.ListProcessor;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Merges many Standard BOMs into one, combining duplicate components.
+ * <p>Components are considered duplicates if they have the same identity key, which is their normalized package URL,
+ * or if they have none, their group, name, and version, and if their hashes do not contradict each other (see
+ * {@link ComponentIdentity#hashesCompatible}). The first occurrence of a component survives.
+ * It receives the hashes, external references (including sources), licenses, and properties of its duplicates which
+ * it does not have yet, as well as any missing names and descriptions. If a duplicate has a different value for a
+ * property which the survivor already has, the survivor's value is kept and the conflict is logged as a warning.
+ * Dependencies are rewritten to refer to the
+ * surviving components, and merged by <code>ref</code>. If the surviving components of different inputs have the
+ * same bom-ref, a suffix is added to make them unique.</p>
+ * <p>The result does not depend on whether the merge is done in parallel: components, dependencies, and external
+ * references appear in the order of their first occurrence in the inputs.</p>
+ * <p>In order to keep the memory footprint proportional to the number of unique components, the surviving components
+ * are not copied. This means that <b>the input SBOMs are modified</b> and should be discarded after the merge.</p>
+ */
+@Immutable
+public class StandardBomMerger
+{
+    private static final Logger LOG = LoggerFactory.getLogger(StandardBomMerger.class);
+
+    /** number of bits of the component index in a {@link Survivor#position} */
+    private static final int POSITION_SHIFT = 32;
+
+    private final boolean parallel;
+
+
+
+    /**
+     * A unique component of the merged SBOM.
+     */
+    private static final class Survivor
+    {
+        /** input index in the upper bits, component index in the lower bits, for ordering */
+        private final long position;
+
+        @Nonnull
+        private final Component component;
+
+        /** the next survivor with the same identity key, whose hashes differ */
+        @CheckForNull
+        private Survivor next;
+
+
+
+        Survivor(final int pInput, final int pIndex, @Nonnull final Component pComponent)
+        {
+            position = ((long) pInput << POSITION_SHIFT) | pIndex;
+            component = pComponent;
+        }
+    }
+
+
+
+    /**
+     * Constructor for a merger which uses multiple threads (from the common fork/join pool).
+     */
+    public StandardBomMerger()
+    {
+        this(true);
+    }
+
+
+
+    /**
+     * Constructor.
+     *
+     * @param pParallel <code>true</code> to use multiple threads (from the common fork/join pool)
+     */
+    public StandardBomMerger(final boolean pParallel)
+    {
+        parallel = pParallel;
+    }
+
+
+
+    /**
+     * Merge the given Standard BOMs into a new Standard BOM.
+     *
+     * @param pInputs the SBOMs to merge, which are modified in the process
+     * @return a new SBOM containing the unique components, dependencies, and external references of all inputs
+     */
+    @Nonnull
+    public StandardBom merge(@Nonnull final List<StandardBom> pInputs)
+    {
+        return merge(new StandardBom(), pInputs);
+    }
+
+
+
+    /**
+     * Merge the given Standard BOMs into the given header.
+     *
+     * @param pHeader the SBOM providing the metadata and all other fields of the result. Its components, dependencies,
+     * and external references are replaced.
+     * @param pInputs the SBOMs to merge, which are modified in the process
+     * @return the header, now containing the unique components, dependencies, and external references of all inputs
+     */
+    @Nonnull
+    public StandardBom merge(@Nonnull final StandardBom pHeader, @Nonnull final List<StandardBom> pInputs)
+    {
+        Objects.requireNonNull(pHeader, "header was null");
+        final List<List<Component>> components = new ArrayList<>(pInputs.size());
+        for (StandardBom input : pInputs) {
+            final List<Component> list = input.getCycloneDxBom().getComponents();
+            components.add(list != null ? list : Collections.emptyList());
+        }
+
+        final String[][] originalRefs = new String[components.size()][];
+        final String[][] keys = new String[components.size()][];
+        final Component[][] survivorOf = new Component[components.size()][];
+        indexes(components.size()).forEach(i -> {
+            final List<Component> list = components.get(i);
+            originalRefs[i] = new String[list.size()];
+            keys[i] = new String[list.size()];
+            survivorOf[i] = new Component[list.size()];
+            for (int j = 0; j < list.size(); j++) {
+                final Component component = list.get(j);
+                if (component != null) {
+                    originalRefs[i][j] = component.getBomRef();
+                    keys[i][j] = ComponentIdentity.keyOf(component);
+                }
+            }
+        });
+
+        final List<Survivor> survivors = mergeComponents(components, keys, survivorOf);
+        final List<Component> mergedComponents = new ArrayList<>(survivors.size());
+        final Set<String> bomRefs = new HashSet<>();
+        for (Survivor survivor : survivors) {
+            makeBomRefUnique(survivor.component, bomRefs);
+            mergedComponents.add(survivor.component);
+        }
+
+        final List<Map<String, Set<String>>> dependencies = indexes(pInputs.size())
+            .mapToObj(i -> rewriteDependencies(pInputs.get(i).getCycloneDxBom().getDependencies(),
+                refMap(originalRefs[i], survivorOf[i])))
+            .collect(Collectors.toList());
+        final List<Dependency> mergedDependencies = mergeDependencies(dependencies);
+
+        final Set<ExternalReference> externalReferences = new LinkedHashSet<>();
+        for (StandardBom input : pInputs) {
+            if (input.getCycloneDxBom().getExternalReferences() != null) {
+                externalReferences.addAll(input.getCycloneDxBom().getExternalReferences());
+            }
+        }
+
+        pHeader.getCycloneDxBom().setComponents(mergedComponents);
+        pHeader.getCycloneDxBom().setDependencies(mergedDependencies);
+        pHeader.getCycloneDxBom().setExternalReferences(
+            externalReferences.isEmpty() ? null : new ArrayList<>(externalReferences));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Merged " + pInputs.size() + " SBOMs into " + mergedComponents.size() + " unique components and "
+                + mergedDependencies.size() + " dependencies");
+        }
+        return pHeader;
+    }
+
+
+
+    @Nonnull
+    private IntStream indexes(final int pSize)
+    {
+        final IntStream result = IntStream.range(0, pSize);
+        return parallel ? result.parallel() : result;
+    }
+
+
+
+    /**
+     * Find the unique components. The identity keys are divided into stripes by their hash code, and each stripe is
+     * processed by one thread, so that no locking is needed, and the survivor is always the first occurrence.
+     *
+     * @param pComponents the components of each input
+     * @param pKeys the identity keys of the components of each input
+     * @param pSurvivorOf receives the surviving component of each component of each input
+     * @return the surviving components, in the order of their first occurrence
+     */
+    @Nonnull
+    private List<Survivor> mergeComponents(@Nonnull final List<List<Component>> pComponents,
+        @Nonnull final String[][] pKeys, @Nonnull final Component[][] pSurvivorOf)
+    {
+        final int numStripes = parallel ? Runtime.getRuntime().availableProcessors() : 1;
+        final long[][] stripes = divideIntoStripes(pComponents, pKeys, numStripes);
+        final List<Survivor> result = indexes(numStripes)
+            .mapToObj(stripe -> mergeStripe(pComponents, pKeys, stripes[stripe], pSurvivorOf))
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+        if (numStripes > 1) {
+            result.sort(Comparator.comparingLong(s -> s.position));
+        }
+        return result;
+    }
+
+
+
+    /**
+     * Divide the components into stripes by the hash code of their identity key, in a single pass over all components.
+     * Components which cannot be identified all go into the first stripe.
+     *
+     * @param pComponents the components of each input
+     * @param pKeys the identity keys of the components of each input
+     * @param pNumStripes the number of stripes
+     * @return the positions of the components of each stripe, in ascending order, as in {@link Survivor#position}
+     */
+    @Nonnull
+    private static long[][] divideIntoStripes(@Nonnull final List<List<Component>> pComponents,
+        @Nonnull final String[][] pKeys, final int pNumStripes)
+    {
+        final int total = Arrays.stream(pKeys).mapToInt(keys -> keys.length).sum();
+        final long[][] result = new long[pNumStripes][total / pNumStripes + 1];
+        final int[] sizes = new int[pNumStripes];
+        for (int i = 0; i < pKeys.length; i++) {
+            for (int j = 0; j < pKeys[i].length; j++) {
+                if (pComponents.get(i).get(j) == null) {
+                    continue;
+                }
+                final String key = pKeys[i][j];
+                final int stripe = key != null ? (key.hashCode() & Integer.MAX_VALUE) % pNumStripes : 0;
+                if (sizes[stripe] == result[stripe].length) {
+                    result[stripe] = Arrays.copyOf(result[stripe], result[stripe].length * 2);
+                }
+                result[stripe][sizes[stripe]++] = ((long) i << POSITION_SHIFT) | j;
+            }
+        }
+        for (int stripe = 0; stripe < pNumStripes; stripe++) {
+            result[stripe] = Arrays.copyOf(result[stripe], sizes[stripe]);
+        }
+        return result;
+    }
+
+
+
+    @Nonnull
+    private static List<Survivor> mergeStripe(@Nonnull final List<List<Component>> pComponents,
+        @Nonnull final String[][] pKeys, @Nonnull final long[] pPositions, @Nonnull final Component[][] pSurvivorOf)
+    {
+        final Map<String, Survivor> byKey = new HashMap<>();
+        final List<Survivor> result = new ArrayList<>();
+        for (long position : pPositions) {
+            final int i = (int) (position >>> POSITION_SHIFT);
+            final int j = (int) position;
+            final Component component = pComponents.get(i).get(j);
+            final String key = pKeys[i][j];
+            if (key == null) {
+                result.add(new Survivor(i, j, component));  // cannot be identified, so keep it as it is
+                pSurvivorOf[i][j] = component;
+                continue;
+            }
+
+            Survivor match = null;
+            Survivor last = null;
+            for (Survivor candidate = byKey.get(key); candidate != null && match == null; candidate = candidate.next) {
+                if (candidate.component == component
+                    || ComponentIdentity.hashesCompatible(candidate.component.getHashes(), component.getHashes())) {
+                    match = candidate;
+                }
+                last = candidate;
+            }
+            if (match == null) {
+                match = new Survivor(i, j, component);
+                if (last == null) {
+                    byKey.put(key, match);
+                }
+                else {
+                    last.next = match;
+                }
+                result.add(match);
+            }
+            else if (match.component != component) {
+                mergeInto(match.component, component);
+            }
+            pSurvivorOf[i][j] = match.component;
+        }
+        return result;
+    }
+
+
+
+    private static void makeBomRefUnique(@Nonnull final Component pComponent, @Nonnull final Set<String> pUsed)
+    {
+        final String bomRef = pComponent.getBomRef();
+        if (bomRef != null && !pUsed.add(bomRef)) {
+            int suffix = 2;
+            String candidate;
+            do {
+                candidate = bomRef + "-" + suffix++;
+            } while (!pUsed.add(candidate));
+            pComponent.setBomRef(candidate);
+        }
+    }
+
+
+
+    /**
+     * Map the original bom-refs of the components of one input to the bom-refs of the surviving components.
+     *
+     * @param pOriginalRefs the bom-refs of the components before the merge
+     * @param pSurvivors the surviving component of each component
+     * @return a map from original bom-refs to surviving bom-refs
+     */
+    @Nonnull
+    private static Map<String, String> refMap(@Nonnull final String[] pOriginalRefs,
+        @Nonnull final Component[] pSurvivors)
+    {
+        final Map<String, String> result = new HashMap<>();
+        for (int j = 0; j < pOriginalRefs.length; j++) {
+            if (pOriginalRefs[j] != null) {
+                final Component survivor = pSurvivors[j];
+                if (survivor != null && survivor.getBomRef() != null) {
+                    result.putIfAbsent(pOriginalRefs[j], survivor.getBomRef());
+                }
+            }
+        }
+        return result;
+    }
+
+
+
+    @Nonnull
+    private static Map<String, Set<String>> rewriteDependencies(@Nullable final List<Dependency> pDependencies,
+        @Nonnull final Map<String, String> pRefMap)
+    {
+        if (pDependencies == null || pDependencies.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Set<String>> result = new LinkedHashMap<>();
+        for (Dependency dependency : pDependencies) {
+            if (dependency == null || dependency.getRef() == null) {
+                continue;
+            }
+            final String ref = pRefMap.getOrDefault(dependency.getRef(), dependency.getRef());
+            final Set<String> targets = result.computeIfAbsent(ref, r -> new LinkedHashSet<>());
+            if (dependency.getDependencies() != null) {
+                for (Dependency target : dependency.getDependencies()) {
+                    if (target != null && target.getRef() != null) {
+                        final String targetRef = pRefMap.getOrDefault(target.getRef(), target.getRef());
+                        if (!targetRef.equals(ref) || target.getRef().equals(dependency.getRef())) {
+                            targets.add(targetRef);  // but don't let merged duplicates depend on themselves
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+
+
+    @Nonnull
+    private static List<Dependency> mergeDependencies(@Nonnull final List<Map<String, Set<String>>> pDependencies)
+    {
+        final Map<String, Set<String>> merged = new LinkedHashMap<>();
+        for (Map<String, Set<String>> dependencies : pDependencies) {
+            for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+                final Set<String> targets = merged.get(entry.getKey());
+                if (targets == null) {
+                    merged.put(entry.getKey(), entry.getValue());
+                }
+                else {
+                    targets.addAll(entry.getValue());
+                }
+            }
+        }
+        final List<Dependency> result = new ArrayList<>(merged.size());
+        for (Map.Entry<String, Set<String>> entry : merged.entrySet()) {
+            final Dependency dependency = new Dependency(entry.getKey());
+            final List<Dependency> targets = new ArrayList<>(entry.getValue().size());
+            for (String target : entry.getValue()) {
+                targets.add(new Dependency(target));
+            }
+            dependency.setDependencies(targets);
+            result.add(dependency);
+        }
+        return result;
+    }
+
+
+
+    /**
+     * Add the information of a duplicate to the surviving component, unless it is already present there.
+     *
+     * @param pTarget the surviving component
+     * @param pSource the duplicate
+     */
+    private static void mergeInto(@Nonnull final Component pTarget, @Nonnull final Component pSource)
+    {
+        if (pTarget.getBomRef() == null) {
+            pTarget.setBomRef(pSource.getBomRef());
+        }
+        if (pTarget.getType() == null) {
+            pTarget.setType(pSource.getType());
+        }
+        if (pTarget.getGroup() == null) {
+            pTarget.setGroup(pSource.getGroup());
+        }
+        if (pTarget.getName() == null) {
+            pTarget.setName(pSource.getName());
+        }
+        if (pTarget.getVersion() == null) {
+            pTarget.setVersion(pSource.getVersion());
+        }
+        if (pTarget.getDescription() == null) {
+            pTarget.setDescription(pSource.getDescription());
+        }
+        if (pTarget.getCopyright() == null) {
+            pTarget.setCopyright(pSource.getCopyright());
+        }
+        if (pTarget.getCpe() == null) {
+            pTarget.setCpe(pSource.getCpe());
+        }
+        mergeHashes(pTarget, pSource.getHashes());
+        mergeExternalReferences(pTarget, pSource.getExternalReferences());
+        mergeLicenses(pTarget, pSource.getLicenses());
+        mergeProperties(pTarget, pSource.getProperties());
+    }
+
+
+
+    private static void mergeHashes(@Nonnull final Component pTarget, @Nullable final List<Hash> pHashes)
+    {
+        if (pHashes == null) {
+            return;
+        }
+        List<Hash> merged = null;
+        for (Hash hash : pHashes) {
+            if (hash != null && hash.getAlgorithm() != null && hash.getValue() != null) {
+                final List<Hash> current = merged != null ? merged : pTarget.getHashes();
+                if (ListProcessor.HASH.first(current, hash.getAlgorithm()) == null) {
+                    if (merged == null) {
+                        merged = current != null ? new ArrayList<>(current) : new ArrayList<>();
+                    }
+                    merged.add(hash);
+                }
+            }
+        }
+        if (merged != null) {
+            pTarget.setHashes(merged);
+        }
+    }
+
+
+
+    private static void mergeExternalReferences(@Nonnull final Component pTarget,
+        @Nullable final List<ExternalReference> pExtRefs)
+    {
+        if (pExtRefs == null) {
+            return;
+        }
+        List<ExternalReference> merged = null;
+        for (ExternalReference extRef : pExtRefs) {
+            if (extRef != null) {
+                final List<ExternalReference> current = merged != null ? merged : pTarget.getExternalReferences();
+                if (!containsExternalReference(current, extRef)) {
+                    if (merged == null) {
+                        merged = current != null ? new ArrayList<>(current) : new ArrayList<>();
+                    }
+                    merged.add(extRef);
+                }
+            }
+        }
+        if (merged != null) {
+            pTarget.setExternalReferences(merged);
+        }
+    }
+
+
+
+    private static boolean containsExternalReference(@Nullable final List<ExternalReference> pList,
+        @Nonnull final ExternalReference pExtRef)
+    {
+        if (pList != null) {
+            for (ExternalReference existing : pList) {
+                if (existing != null && existing.getType() == pExtRef.getType()
+                    && Objects.equals(existing.getUrl(), pExtRef.getUrl())
+                    && Objects.equals(existing.getComment(), pExtRef.getComment())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+
+
+    private static void mergeLicenses(@Nonnull final Component pTarget, @Nullable final LicenseChoice pLicenses)
+    {
+        if (pLicenses == null || (pLicenses.getLicenses() == null && pLicenses.getExpression() == null)) {
+            return;
+        }
+        final LicenseChoice current = pTarget.getLicenses();
+        if (current == null) {
+            final LicenseChoice copy = new LicenseChoice();
+            copy.setExpression(pLicenses.getExpression());
+            if (pLicenses.getLicenses() != null) {
+                copy.setLicenses(new ArrayList<>(pLicenses.getLicenses()));
+            }
+            pTarget.setLicenses(copy);
+        }
+        else if (current.getExpression() == null && pLicenses.getLicenses() != null) {
+            final List<License> merged = current.getLicenses() != null ? new ArrayList<>(current.getLicenses())
+                : new ArrayList<>();
+            final int size = merged.size();
+            for (License license : pLicenses.getLicenses()) {
+                if (license != null && findLicense(merged, license) == null) {
+                    merged.add(license);
+                }
+            }
+            if (merged.size() > size) {
+                current.setLicenses(merged);
+            }
+        }
+    }
+
+
+
+    @CheckForNull
+    private static License findLicense(@Nonnull final List<License> pLicenses, @Nonnull final License pLicense)
+    {
+        for (License license : pLicenses) {
+            if (license != null && Objects.equals(license.getId(), pLicense.getId())
+                && Objects.equals(license.getName(), pLicense.getName())) {
+                return license;
+            }
+        }
+        return null;
+    }
+
+
+
+    private static void mergeProperties(@Nonnull final Component pTarget, @Nullable final List<Property> pProperties)
+    {
+        if (pProperties == null || pProperties.isEmpty()) {
+            return;
+        }
+        final List<Property> current = pTarget.getProperties();
+        final Map<String, String> values = new HashMap<>();
+        if (current != null) {
+            for (Property property : current) {
+                if (property != null) {
+                    values.putIfAbsent(property.getName(), property.getValue());
+                }
+            }
+        }
+        List<Property> merged = null;
+        for (Property property : pProperties) {
+            if (property == null) {
+                continue;
+            }
+            if (!values.containsKey(property.getName())) {
+                if (merged == null) {
+                    merged = current != null ? new ArrayList<>(current) : new ArrayList<>();
+                }
+                merged.add(property);
+            }
+            else if (!Objects.equals(values.get(property.getName()), property.getValue()) && LOG.isWarnEnabled()) {
+                LOG.warn("Conflicting values of property " + property.getName() + " in duplicates of component "
+                    + pTarget.getBomRef() + ": keeping \"" + values.get(property.getName()) + "\", dropping \""
+                    + property.getValue() + "\"");
+            }
+        }
+        if (merged != null) {
+            pTarget.setProperties(merged);
+        }
+    }
+}
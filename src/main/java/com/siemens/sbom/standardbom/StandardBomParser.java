@@ -4,49 +4,140 @@
  */
 package com.siemens.sbom.standardbom;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
-import java.util.Objects;
-import java.util.function.BiConsumer;
-import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
 
-import org.cyclonedx.Version;
-import org.cyclonedx.exception.GeneratorException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import org.cyclonedx.exception.ParseException;
-import org.cyclonedx.generators.BomGeneratorFactory;
-import org.cyclonedx.generators.json.BomJsonGenerator;
 import org.cyclonedx.model.Bom;
-import org.cyclonedx.model.ExternalReference;
-import org.cyclonedx.parsers.BomParserFactory;
-import org.cyclonedx.parsers.Parser;
+import org.cyclonedx.parsers.XmlParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.siemens.sbom.standardbom.internal.CustomPropertySorter;
-import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.internal.DigestingOutputStream;
+import com.siemens.sbom.standardbom.internal.StringDeduplicator;
 import com.siemens.sbom.standardbom.model.StandardBom;
 
 
 /**
  * Default serializer/deserializer for standard-bom files.
+ * <p>Instances are thread-safe. They hold no state apart from their immutable configuration, and the JSON readers
+ * and writers they use are configured once and then shared, so a single instance may serve any number of threads
+ * without per-call setup cost.</p>
+ * <p>Saving and converting to String only read the given BOM, so the same BOM may be written by several threads
+ * concurrently, as long as no thread modifies it at the same time.</p>
  */
+@ThreadSafe
 public class StandardBomParser
 {
     private static final Logger LOG = LoggerFactory.getLogger(StandardBomParser.class);
 
     private static final int BUFFER_SIZE_BYTES = 8192;
 
-    private static final String NEWLINE_TOKEN = "§LINEBREAK§";
+    private static final int STRING_BUFFER_SIZE_CHARS = 64 * 1024;
+
+    /** Reads JSON like the CycloneDX JSON parser, but is created only once, so that its deserializers are reused */
+    private static final ObjectReader JSON_READER = new ObjectMapper().readerFor(Bom.class);
+
+    /** The CycloneDX XML parser is stateless apart from its mapper, so it can be shared, too */
+    private static final XmlParser XML_PARSER = new XmlParser();
+
+    private final boolean deduplicateStrings;
+
+
+
+    /**
+     * Writes to a file channel, and forces all content to disk before the channel is closed.
+     */
+    private static final class ForcingOutputStream
+        extends FilterOutputStream
+    {
+        private final FileChannel channel;
+
+
+
+        ForcingOutputStream(@Nonnull final FileChannel pChannel)
+        {
+            super(Channels.newOutputStream(pChannel));
+            channel = pChannel;
+        }
+
+
+
+        @Override
+        public void write(@Nonnull final byte[] pBytes, final int pOffset, final int pLength)
+            throws IOException
+        {
+            out.write(pBytes, pOffset, pLength);
+        }
+
+
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            try {
+                flush();
+                channel.force(true);
+            }
+            finally {
+                out.close();
+            }
+        }
+    }
+
+
+
+    /**
+     * Constructor.
+     */
+    public StandardBomParser()
+    {
+        this(false);
+    }
+
+
+
+    /**
+     * Constructor.
+     *
+     * @param pDeduplicateStrings <code>true</code> to replace equal Strings in parsed SBOMs by a single shared
+     * instance. This costs some parsing time, but considerably reduces the memory footprint of large SBOMs which are
+     * kept in memory, because property names and values, license IDs, hash algorithms, dependency references, etc.
+     * occur many times. The Strings are pooled per SBOM, never globally.
+     */
+    public StandardBomParser(final boolean pDeduplicateStrings)
+    {
+        deduplicateStrings = pDeduplicateStrings;
+    }
 
 
 
@@ -63,17 +154,122 @@ public class StandardBomParser
      */
     public StandardBom parse(final File pJsonFile)
         throws IOException, ParseException
+    {
+        try {
+            return parse(pJsonFile.toPath());
+        }
+        catch (NoSuchFileException e) {
+            final FileNotFoundException fnfe = new FileNotFoundException(pJsonFile.getPath());
+            fnfe.initCause(e);
+            throw fnfe;
+        }
+    }
+
+
+
+    /**
+     * Parse the given file as a Standard BOM. The file is read into a single array of the file's size, which is
+     * handed to the JSON parser without further copying.
+     * <p>Files compressed via gzip are detected by their first bytes, and decompressed on the fly.</p>
+     *
+     * @param pJsonFile the file to read
+     * @return the parsed content as our DTOs which wrap CycloneDX DTOs
+     *
+     * @throws java.nio.file.NoSuchFileException the given file was not found
+     * @throws StandardBomException missing, unsupported, or invalid format version
+     * @throws ParseException syntax error in JSON
+     * @throws IOException I/O error reading the file
+     */
+    public StandardBom parse(@Nonnull final Path pJsonFile)
+        throws IOException, ParseException
     {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Parsing Standard BOM: " + pJsonFile);
         }
+        if (isGzipped(pJsonFile)) {
+            try (InputStream is = new GZIPInputStream(Files.newInputStream(pJsonFile), BUFFER_SIZE_BYTES)) {
+                return parseDecompressed(is);
+            }
+        }
+        final byte[] jsonBytes = Files.readAllBytes(pJsonFile);
+        return parse(jsonBytes, 0, jsonBytes.length);
+    }
 
-        try (
-            InputStream fis = new FileInputStream(pJsonFile);
-            BufferedInputStream bis = new BufferedInputStream(fis, BUFFER_SIZE_BYTES))
-        {
-            return parse(bis);
+
+
+    /**
+     * Parse decompressed input. JSON is streamed into the reader. XML is read completely first, because only then
+     * does the CycloneDX parser determine its spec version.
+     *
+     * @param pStream the decompressed input
+     * @return the parsed content as current DTOs
+     * @throws ParseException syntax error
+     * @throws IOException error reading the input
+     */
+    @Nonnull
+    private StandardBom parseDecompressed(@Nonnull final InputStream pStream)
+        throws IOException, ParseException
+    {
+        final PushbackInputStream is = new PushbackInputStream(pStream, 1);
+        final int firstByte = is.read();
+        if (firstByte >= 0) {
+            is.unread(firstByte);
+        }
+        if (isJson(firstByte >= 0 ? 1 : 0, (byte) firstByte)) {
+            try {
+                return toStandardBom(JSON_READER.readValue(is));
+            }
+            catch (IOException | RuntimeException e) {
+                throw new ParseException("Unable to parse BOM from compressed input", e);
+            }
+        }
+        final byte[] xmlBytes = toByteArray(is);
+        return toStandardBom(XML_PARSER.parse(xmlBytes));
+    }
+
+
+
+    /**
+     * Determine whether the given file starts with the gzip magic bytes.
+     *
+     * @param pFile the file to check
+     * @return <code>true</code> if the file is gzip-compressed
+     * @throws IOException error reading the file
+     */
+    private static boolean isGzipped(@Nonnull final Path pFile)
+        throws IOException
+    {
+        try (InputStream is = Files.newInputStream(pFile)) {
+            final int byte1 = is.read();
+            final int byte2 = is.read();
+            return byte1 >= 0 && byte2 >= 0 && (byte1 | (byte2 << Byte.SIZE)) == GZIPInputStream.GZIP_MAGIC;
+        }
+    }
+
+
+
+    /**
+     * Open the given file for reading, decompressing it on the fly if it is gzip-compressed.
+     *
+     * @param pFile the file to read
+     * @return a new input stream, which the caller must close
+     * @throws IOException error opening the file
+     */
+    @Nonnull
+    private static InputStream openDecompressed(@Nonnull final Path pFile)
+        throws IOException
+    {
+        final InputStream is = Files.newInputStream(pFile);
+        if (isGzipped(pFile)) {
+            try {
+                return new GZIPInputStream(is, BUFFER_SIZE_BYTES);
+            }
+            catch (IOException | RuntimeException e) {
+                is.close();
+                throw e;
+            }
         }
+        return is;
     }
 
 
@@ -94,11 +290,110 @@ public class StandardBomParser
         throws IOException, ParseException
     {
         final byte[] jsonBytes = toByteArray(pJsonStream);
+        return parse(jsonBytes, 0, jsonBytes.length);
+    }
+
+
+
+    /**
+     * Parse the remaining bytes of the given buffer as a Standard BOM. Heap buffers are parsed in place. Direct
+     * buffers, for example a file mapped via {@link java.nio.channels.FileChannel#map}, are read in small chunks, so
+     * the document is never copied onto the heap as a whole.
+     *
+     * @param pJsonBuffer the buffer to read. Its position, limit, and mark are not changed.
+     * @return the parsed content as current DTOs
+     *
+     * @throws StandardBomException missing, unsupported, or invalid format version
+     * @throws ParseException syntax error in JSON
+     */
+    public StandardBom parse(@Nonnull final ByteBuffer pJsonBuffer)
+        throws ParseException
+    {
+        if (pJsonBuffer.hasArray()) {
+            return parse(pJsonBuffer.array(), pJsonBuffer.arrayOffset() + pJsonBuffer.position(),
+                pJsonBuffer.remaining());
+        }
+
+        final byte firstByte = pJsonBuffer.hasRemaining() ? pJsonBuffer.get(pJsonBuffer.position()) : 0;
+        final Bom bom;
+        if (isJson(pJsonBuffer.remaining(), firstByte)) {
+            try {
+                bom = JSON_READER.readValue(new ByteBufferBackedInputStream(pJsonBuffer.duplicate()));
+            }
+            catch (IOException | RuntimeException e) {
+                throw new ParseException("Unable to parse BOM from byte buffer", e);
+            }
+        }
+        else {
+            final byte[] xmlBytes = new byte[pJsonBuffer.remaining()];
+            pJsonBuffer.duplicate().get(xmlBytes);
+            bom = XML_PARSER.parse(xmlBytes);
+        }
+        return toStandardBom(bom);
+    }
+
+
+
+    @Nonnull
+    private StandardBom parse(@Nonnull final byte[] pBytes, final int pOffset, final int pLength)
+        throws ParseException
+    {
+        final Bom bom;
+        if (isJson(pLength, pLength > 0 ? pBytes[pOffset] : 0)) {
+            try {
+                bom = JSON_READER.readValue(pBytes, pOffset, pLength);
+            }
+            catch (IOException | RuntimeException e) {
+                throw new ParseException("Unable to parse BOM from byte array", e);
+            }
+        }
+        else {
+            // only the byte[] variant of the XML parser determines the spec version from the namespace
+            final boolean whole = pOffset == 0 && pLength == pBytes.length;
+            bom = XML_PARSER.parse(whole ? pBytes : Arrays.copyOfRange(pBytes, pOffset, pOffset + pLength));
+        }
+        return toStandardBom(bom);
+    }
+
+
+
+    /**
+     * Determine the input format from the first byte, like the CycloneDX parser factory does.
+     *
+     * @param pLength the length of the input
+     * @param pFirstByte the first byte of the input, if it is not empty
+     * @return <code>true</code> if the input is JSON, <code>false</code> if it is XML
+     * @throws ParseException the input is empty, or neither JSON nor XML
+     */
+    private static boolean isJson(final int pLength, final byte pFirstByte)
+        throws ParseException
+    {
+        if (pLength < 1) {
+            throw new ParseException("Cannot create parser from empty byte array.");
+        }
+        else if (pFirstByte == '{') {
+            return true;
+        }
+        else if (pFirstByte == '<') {
+            return false;
+        }
+        throw new ParseException(
+            "The specified BOM is not in a supported format. Supported formats are XML and JSON");
+    }
+
 
-        Parser jsonParser = BomParserFactory.createParser(jsonBytes);
-        Bom bom = jsonParser.parse(jsonBytes);
-        StandardBom result = new StandardBom(bom);
 
+    @Nonnull
+    private StandardBom toStandardBom(@Nonnull final Bom pBom)
+    {
+        if (deduplicateStrings) {
+            final StringDeduplicator deduplicator = new StringDeduplicator();
+            deduplicator.deduplicateBom(pBom);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Replaced " + deduplicator.getReplaced() + " duplicate Strings");
+            }
+        }
+        final StandardBom result = new StandardBom(pBom);
         if (LOG.isDebugEnabled()) {
             LOG.debug("Successfully parsed Standard BOM");
         }
@@ -107,6 +402,107 @@ public class StandardBomParser
 
 
 
+    /**
+     * Open the given file for reading its components one at a time. In contrast to {@link #parse(File)}, the
+     * complete document is never held in memory, so this is suitable for processing very large SBOMs. Only JSON
+     * input is supported, which may be gzip-compressed.
+     *
+     * @param pJsonFile the file to read
+     * @return a reader which provides the components and the remaining SBOM data. The caller must close it.
+     *
+     * @throws java.nio.file.NoSuchFileException the given file was not found
+     * @throws StandardBomException the input is not a JSON document
+     * @throws IOException I/O error reading the file, or syntax error in JSON
+     */
+    @Nonnull
+    public StandardBomReader streamComponents(@Nonnull final Path pJsonFile)
+        throws IOException
+    {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Streaming components of Standard BOM: " + pJsonFile);
+        }
+
+        final InputStream is = openDecompressed(pJsonFile);
+        try {
+            return new StandardBomReader(is);
+        }
+        catch (IOException | RuntimeException e) {
+            is.close();
+            throw e;
+        }
+    }
+
+
+
+    /**
+     * Parse the given files in parallel on the given executor. At most two files per available processor are in
+     * flight at any time.
+     *
+     * @param pJsonFiles the files to parse
+     * @param pExecutor the executor to parse on, for example a fixed thread pool
+     * @return a reader which provides the results as they complete. The caller must close it.
+     * @see #parseAll(Collection, Executor, int)
+     */
+    @Nonnull
+    public StandardBomBatchReader parseAll(@Nonnull final Collection<Path> pJsonFiles,
+        @Nonnull final Executor pExecutor)
+    {
+        return parseAll(pJsonFiles, pExecutor, 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+
+
+    /**
+     * Parse the given files in parallel on the given executor. Each file is parsed like by {@link #parse(Path)}. If a
+     * file cannot be parsed, its result contains the error, and the other files are still parsed.
+     * <p>At most <code>pMaxInFlight</code> files are parsed or waiting to be taken by the caller at any time, so
+     * the number of parsed SBOMs held in memory is bounded no matter how many files are given, or how many threads
+     * the executor has.</p>
+     *
+     * @param pJsonFiles the files to parse
+     * @param pExecutor the executor to parse on, for example a fixed thread pool
+     * @param pMaxInFlight the maximum number of files in flight, at least 1
+     * @return a reader which provides the results as they complete. The caller must close it.
+     */
+    @Nonnull
+    public StandardBomBatchReader parseAll(@Nonnull final Collection<Path> pJsonFiles,
+        @Nonnull final Executor pExecutor, final int pMaxInFlight)
+    {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Parsing " + pJsonFiles.size() + " Standard BOMs with up to " + pMaxInFlight + " in flight");
+        }
+        return new StandardBomBatchReader(this, pJsonFiles, pExecutor, pMaxInFlight);
+    }
+
+
+
+    /**
+     * Read only those fields of the given file which identify a Standard BOM, without parsing the components. This is
+     * much faster than a full parse, and meant for quickly inspecting a file. The returned SBOM supports
+     * {@link StandardBom#getStandardBomVersion()}, {@link StandardBom#getProfile()},
+     * {@link StandardBom#getSbomNature()}, {@link StandardBom#getSerialNumber()}, and
+     * {@link StandardBom#getTimestamp()}, along with the rest of the metadata. It contains no components, external
+     * components, or dependencies. Only JSON input is supported, which may be gzip-compressed.
+     *
+     * @param pJsonFile the file to read
+     * @return an SBOM containing only the top-level identification fields and the metadata
+     *
+     * @throws java.nio.file.NoSuchFileException the given file was not found
+     * @throws StandardBomException the input is not a JSON document
+     * @throws IOException I/O error reading the file, or syntax error in JSON
+     */
+    @Nonnull
+    public StandardBom probe(@Nonnull final Path pJsonFile)
+        throws IOException
+    {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Probing Standard BOM: " + pJsonFile);
+        }
+        return StandardBomReader.probe(openDecompressed(pJsonFile));
+    }
+
+
+
     private byte[] toByteArray(final InputStream pJsonStream)
         throws IOException
     {
@@ -136,17 +532,115 @@ public class StandardBomParser
      */
     public void save(@Nonnull final StandardBom pBom, @Nonnull final File pOutputFile)
         throws IOException
+    {
+        save(pBom, pOutputFile.toPath(), Compression.None);
+    }
+
+
+
+    /**
+     * Store the given Standard BOM in a file, optionally compressed. The JSON is streamed through the compressor, so
+     * neither the compressed nor the uncompressed document is ever held in memory as a whole.
+     *
+     * @param pBom the BOM to save
+     * @param pOutputFile the file to write to
+     * @param pCompression the compression to apply
+     * @throws StandardBomException serializing the given BOM failed
+     * @throws IOException I/O error writing to the given file
+     */
+    public void save(@Nonnull final StandardBom pBom, @Nonnull final Path pOutputFile,
+        @Nonnull final Compression pCompression)
+        throws IOException
+    {
+        save(pBom, pOutputFile, pCompression, OutputStyle.Pretty);
+    }
+
+
+
+    /**
+     * Store the given Standard BOM in a file, optionally compressed, in the given layout. The JSON is streamed
+     * through the compressor, so neither the compressed nor the uncompressed document is ever held in memory as a
+     * whole.
+     *
+     * @param pBom the BOM to save
+     * @param pOutputFile the file to write to
+     * @param pCompression the compression to apply
+     * @param pStyle the layout of the JSON text
+     * @throws StandardBomException serializing the given BOM failed
+     * @throws IOException I/O error writing to the given file
+     */
+    public void save(@Nonnull final StandardBom pBom, @Nonnull final Path pOutputFile,
+        @Nonnull final Compression pCompression, @Nonnull final OutputStyle pStyle)
+        throws IOException
+    {
+        save(pBom, pOutputFile, pCompression, pStyle, SaveMode.Overwrite);
+    }
+
+
+
+    /**
+     * Store the given Standard BOM in a file, optionally compressed, in the given layout. The JSON is streamed
+     * through the compressor into a file channel, so neither the compressed nor the uncompressed document is ever
+     * held in memory as a whole.
+     * <p>With {@link SaveMode#Atomic} or {@link SaveMode#Durable}, the output is written to a temporary file in the
+     * same directory, which is then moved over the target file. If saving fails, the temporary file is deleted and the
+     * target file remains untouched.</p>
+     *
+     * @param pBom the BOM to save
+     * @param pOutputFile the file to write to
+     * @param pCompression the compression to apply
+     * @param pStyle the layout of the JSON text
+     * @param pMode how the target file is replaced
+     * @throws StandardBomException serializing the given BOM failed
+     * @throws IOException I/O error writing to the given file
+     */
+    public void save(@Nonnull final StandardBom pBom, @Nonnull final Path pOutputFile,
+        @Nonnull final Compression pCompression, @Nonnull final OutputStyle pStyle, @Nonnull final SaveMode pMode)
+        throws IOException
+    {
+        if (pMode == SaveMode.Overwrite) {
+            final FileChannel channel = FileChannel.open(pOutputFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            write(pBom, channel, pOutputFile, pCompression, pStyle, false);
+        }
+        else {
+            final Path tempFile = tempFileFor(pOutputFile);
+            // never reuse an existing file, so that we only ever delete our own temporary file below
+            final FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+            boolean moved = false;
+            try {
+                write(pBom, channel, pOutputFile, pCompression, pStyle, pMode == SaveMode.Durable);
+                Files.move(tempFile, pOutputFile, StandardCopyOption.ATOMIC_MOVE);
+                moved = true;
+            }
+            finally {
+                if (!moved) {
+                    Files.deleteIfExists(tempFile);
+                }
+            }
+            if (pMode == SaveMode.Durable) {
+                forceDirectory(tempFile.getParent());
+            }
+        }
+        LOG.debug("BOM stored in file: " + pOutputFile);
+    }
+
+
+
+    private void write(@Nonnull final StandardBom pBom, @Nonnull final FileChannel pChannel,
+        @Nonnull final Path pOutputFile, @Nonnull final Compression pCompression, @Nonnull final OutputStyle pStyle,
+        final boolean pForce)
+        throws IOException
     {
         try {
-            final byte[] jsonBytes = stringify(pBom).getBytes(StandardCharsets.UTF_8);
-            Files.write(pOutputFile.toPath(), jsonBytes,
-                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
-            LOG.debug("BOM stored in file: " + pOutputFile);
+            // the writer closes the stream, also in case of errors
+            new StandardBomWriter(openCompressed(pChannel, pCompression, pForce), pBom, pStyle).close();
         }
         catch (StandardBomException e) {
             throw e;
         }
-        catch (RuntimeException e) {
+        catch (JsonProcessingException | RuntimeException e) {
             throw new StandardBomException("Failed to write output file: " + pOutputFile, e);
         }
     }
@@ -154,123 +648,188 @@ public class StandardBomParser
 
 
     /**
-     * Convert the given Standard BOM to a JSON String.
-     *
-     * @param pBom the BOM to convert. It will be modified slightly in the process, so do this last!
-     * @return the String representation in JSON format
+     * Determine the name of a temporary file next to the given file. The temporary file is created later with the
+     * default permissions, like the target file would be, which is why we do not use
+     * {@link Files#createTempFile(Path, String, String)}.
      *
-     * @throws StandardBomException conversion failed
+     * @param pOutputFile the target file
+     * @return a path in the same directory as the target file, which does not exist yet
      */
     @Nonnull
-    public String stringify(@Nonnull final StandardBom pBom)
+    private static Path tempFileFor(@Nonnull final Path pOutputFile)
     {
-        // save the newlines in copyright statements and 3rd-party notices
-        escapeComponentFields(pBom, BomEntry::getCopyright, BomEntry::setCopyright);
-        escapeComponentFields(pBom, BomEntry::getThirdPartyNotices, BomEntry::setThirdPartyNotices);
-        // allow purls as urls in external references (this is in fact legal, but the upstream serializer is too strict)
-        escapeExtRefPurls(pBom);
+        final Path target = pOutputFile.toAbsolutePath();
+        return target.resolveSibling("." + target.getFileName() + "."
+            + Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE) + ".tmp");
+    }
 
-        sortCustomProperties(pBom);
 
-        String json = null;
-        try {
-            final Bom cycloneDxBom = pBom.getCycloneDxBom();
-            BomJsonGenerator generator = BomGeneratorFactory.createJson(Version.VERSION_16, cycloneDxBom);
-            json = generator.toJsonString();
+
+    /**
+     * Force the directory entry of a moved file to disk. This is possible on POSIX systems, but not on Windows, where
+     * the move itself is sufficient.
+     *
+     * @param pDirectory the directory to force
+     */
+    private static void forceDirectory(@Nonnull final Path pDirectory)
+    {
+        try (FileChannel channel = FileChannel.open(pDirectory, StandardOpenOption.READ)) {
+            channel.force(true);
         }
-        catch (GeneratorException | RuntimeException e) {
-            throw new StandardBomException("Failed to convert output to JSON", e);
+        catch (IOException | RuntimeException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Directory cannot be forced to disk on this platform: " + pDirectory + " - " + e);
+            }
         }
-
-        json = unescapeComponentFields(json);
-        json = unescapeExtRefPurls(json);
-        json = removeEmptyServicesMetadata(json);
-        json = injectSchemaSpec(json);
-        return json.concat(System.lineSeparator());
     }
 
 
 
     @Nonnull
-    private String injectSchemaSpec(@Nonnull final String pJson)
+    private static OutputStream openCompressed(@Nonnull final FileChannel pChannel,
+        @Nonnull final Compression pCompression, final boolean pForce)
+        throws IOException
     {
-        String schemaAttribute = "  \"$schema\": \"http://cyclonedx.org/schema/bom-1.6.schema.json\","
-            .concat(System.lineSeparator());
-
-        // Check if $schema attribute already exists
-        if (pJson.contains("\"$schema\"")) {
-            return pJson;
-        }
-
-        // Find the position right after the opening curly brace
-        final String insertMarker = '{' + System.lineSeparator();
-        int insertPosition = pJson.indexOf(insertMarker) + insertMarker.length();
-
-        // Insert the $schema attribute at the found position
-        StringBuilder sb = new StringBuilder(pJson);
-        sb.insert(insertPosition, schemaAttribute);
-        return sb.toString();
+        return compress(pForce ? new ForcingOutputStream(pChannel) : Channels.newOutputStream(pChannel), pCompression);
     }
 
 
 
-    private void escapeExtRefPurls(@Nonnull final StandardBom pBom)
+    @Nonnull
+    private static OutputStream compress(@Nonnull final OutputStream pStream, @Nonnull final Compression pCompression)
+        throws IOException
     {
-        if (pBom.getCycloneDxBom().getExternalReferences() != null) {
-            for (ExternalReference extRef : pBom.getCycloneDxBom().getExternalReferences()) {
-                String purl = extRef.getUrl();
-                if (purl != null && purl.startsWith("pkg:")) {
-                    purl = "http://PURL-ESCAPE/" + purl.substring("pkg:".length());
-                    extRef.setUrl(purl);
-                }
+        if (pCompression == Compression.Gzip) {
+            try {
+                return new GZIPOutputStream(pStream, BUFFER_SIZE_BYTES);
+            }
+            catch (IOException | RuntimeException e) {
+                pStream.close();
+                throw e;
             }
         }
+        return pStream;
     }
 
 
 
-    private String unescapeExtRefPurls(@Nonnull final String pJson)
+    /**
+     * Store the given Standard BOM in a file, unless the file already has exactly the content that would be written.
+     * In that case, the file is not touched at all, so that its modification time is preserved.
+     * <p>The new content is serialized once to compute its size and SHA-256 digest, without holding it in memory. The
+     * existing file is compared by size first, and read to compute its digest only if the sizes match. When the
+     * content has changed, it is serialized again for writing.</p>
+     *
+     * @param pBom the BOM to save
+     * @param pOutputFile the file to write to
+     * @return <code>true</code> if the file was written, <code>false</code> if it was left unchanged
+     * @throws StandardBomException serializing the given BOM failed
+     * @throws IOException I/O error reading or writing the given file
+     */
+    public boolean saveIfChanged(@Nonnull final StandardBom pBom, @Nonnull final Path pOutputFile)
+        throws IOException
     {
-        return pJson.replaceAll(Pattern.quote("http://PURL-ESCAPE/"), "pkg:");
+        return saveIfChanged(pBom, pOutputFile, Compression.None, OutputStyle.Pretty, SaveMode.Overwrite);
     }
 
 
 
-    private void escapeComponentFields(@Nonnull final StandardBom pBom,
-        @Nonnull final Function<BomEntry, String> pGetter, @Nonnull final BiConsumer<BomEntry, String> pSetter)
+    /**
+     * Store the given Standard BOM in a file, unless the file already has exactly the content that would be written.
+     * In that case, the file is not touched at all, so that its modification time is preserved.
+     * <p>The new content is serialized once to compute its size and SHA-256 digest, without holding it in memory. The
+     * existing file is compared by size first, and read to compute its digest only if the sizes match. When the
+     * content has changed, it is serialized again for writing.</p>
+     *
+     * @param pBom the BOM to save
+     * @param pOutputFile the file to write to
+     * @param pCompression the compression to apply. The compressed bytes are compared.
+     * @param pStyle the layout of the JSON text
+     * @param pMode how the target file is replaced if it has changed
+     * @return <code>true</code> if the file was written, <code>false</code> if it was left unchanged
+     * @throws StandardBomException serializing the given BOM failed
+     * @throws IOException I/O error reading or writing the given file
+     */
+    public boolean saveIfChanged(@Nonnull final StandardBom pBom, @Nonnull final Path pOutputFile,
+        @Nonnull final Compression pCompression, @Nonnull final OutputStyle pStyle, @Nonnull final SaveMode pMode)
+        throws IOException
     {
-        for (BomEntry bomEntry : pBom.getComponents()) {
-            String value = pGetter.apply(bomEntry);
-            if (value != null) {
-                value = value.replaceAll("\r?\n", NEWLINE_TOKEN);
-                pSetter.accept(bomEntry, value);
+        final DigestingOutputStream digester = new DigestingOutputStream();
+        try {
+            new StandardBomWriter(compress(digester, pCompression), pBom, pStyle).close();
+        }
+        catch (StandardBomException e) {
+            throw e;
+        }
+        catch (IOException | RuntimeException e) {
+            throw new StandardBomException("Failed to convert output to JSON", e);
+        }
+
+        if (hasContent(pOutputFile, digester.getCount(), digester.getDigest())) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("BOM file is unchanged: " + pOutputFile);
             }
+            return false;
         }
+        save(pBom, pOutputFile, pCompression, pStyle, pMode);
+        return true;
     }
 
 
 
-    @Nonnull
-    private String unescapeComponentFields(@Nonnull final String pJson)
+    private static boolean hasContent(@Nonnull final Path pFile, final long pSize, @Nonnull final byte[] pDigest)
+        throws IOException
     {
-        return pJson.replaceAll(NEWLINE_TOKEN, Matcher.quoteReplacement("\\n"));
+        if (!Files.isRegularFile(pFile) || Files.size(pFile) != pSize) {
+            return false;
+        }
+        final MessageDigest digest = DigestingOutputStream.newDigest();
+        final byte[] buffer = new byte[BUFFER_SIZE_BYTES];
+        try (InputStream is = Files.newInputStream(pFile)) {
+            for (int len = is.read(buffer); len >= 0; len = is.read(buffer)) {
+                digest.update(buffer, 0, len);
+            }
+        }
+        return MessageDigest.isEqual(pDigest, digest.digest());
     }
 
 
 
+    /**
+     * Convert the given Standard BOM to a JSON String.
+     *
+     * @param pBom the BOM to convert
+     * @return the String representation in JSON format
+     *
+     * @throws StandardBomException conversion failed
+     */
     @Nonnull
-    private String removeEmptyServicesMetadata(@Nonnull final String pJson)
+    public String stringify(@Nonnull final StandardBom pBom)
     {
-        return pJson.replaceFirst(Pattern.quote("]," + System.lineSeparator() + "      \"services\" : [ ]"), "]");
+        return stringify(pBom, OutputStyle.Pretty);
     }
 
 
 
-    private void sortCustomProperties(@Nonnull final StandardBom pBom)
+    /**
+     * Convert the given Standard BOM to a JSON String in the given layout.
+     *
+     * @param pBom the BOM to convert
+     * @param pStyle the layout of the JSON text
+     * @return the String representation in JSON format
+     *
+     * @throws StandardBomException conversion failed
+     */
+    @Nonnull
+    public String stringify(@Nonnull final StandardBom pBom, @Nonnull final OutputStyle pStyle)
     {
-        pBom.getComponents().stream()
-            .map(c -> c.getCycloneDxComponent().getProperties())
-            .filter(Objects::nonNull)
-            .forEach(customPropsList -> customPropsList.sort(CustomPropertySorter.INSTANCE));
+        final StringWriter sw = new StringWriter(STRING_BUFFER_SIZE_CHARS);
+        try {
+            new StandardBomWriter(sw, pBom, pStyle).close();
+        }
+        catch (IOException | RuntimeException e) {
+            throw new StandardBomException("Failed to convert output to JSON", e);
+        }
+        return sw.toString();
     }
 }
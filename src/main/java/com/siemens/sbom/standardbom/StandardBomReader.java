@@ -0,0 +1,268 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Reads the components of a Standard BOM one at a time, without ever holding the entire document in memory.
+ * <p>Everything except the top-level components is collected in a {@link #getHeader() header} object. Fields which
+ * precede the components in the input (normally <code>metadata</code> and <code>serialNumber</code>) are available
+ * right away. Fields which follow the components (for example, <code>dependencies</code> and
+ * <code>definitions</code>) are added to the header once the last component has been read.</p>
+ * <p>Instances are obtained via {@link StandardBomParser#streamComponents(java.nio.file.Path)} and must be closed
+ * after use.</p>
+ */
+@NotThreadSafe
+public class StandardBomReader
+    implements Iterator<BomEntry>, Closeable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(StandardBomReader.class);
+
+    private static final String COMPONENTS = "components";
+
+    private static final String METADATA = "metadata";
+
+    private static final String SERIAL_NUMBER = "serialNumber";
+
+    private static final String DEFINITIONS = "definitions";
+
+    private static final String SPEC_VERSION = "specVersion";
+
+    /** CycloneDX versions which do not support <code>definitions</code> yet */
+    private static final Set<String> PRE_DEFINITIONS_SPEC_VERSIONS = Collections.unmodifiableSet(
+        new HashSet<>(Arrays.asList("1.0", "1.1", "1.2", "1.3", "1.4", "1.5")));
+
+    /** The top-level fields read by {@link #probe(InputStream)} */
+    private static final Set<String> PROBED_FIELDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "bomFormat", SPEC_VERSION, SERIAL_NUMBER, "version", METADATA, DEFINITIONS)));
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonParser jsonParser;
+
+    private final StandardBom header;
+
+    private BomEntry nextEntry = null;
+
+    private boolean inComponents = false;
+
+    private long count = 0L;
+
+
+
+    StandardBomReader(@Nonnull final InputStream pJsonStream)
+        throws IOException
+    {
+        jsonParser = MAPPER.getFactory().createParser(pJsonStream);
+        try {
+            if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+                throw new StandardBomException("Not a JSON document - streaming is only supported for JSON input");
+            }
+            final Bom bom = new Bom();
+            readFields(bom);
+            header = new StandardBom(bom);
+        }
+        catch (IOException | RuntimeException e) {
+            jsonParser.close();
+            throw e;
+        }
+    }
+
+
+
+    /**
+     * Read top-level fields until either the components array or the end of the document is reached, and add them
+     * to the given Bom.
+     *
+     * @param pBom the Bom to update
+     * @throws IOException error reading from the input, or syntax error in JSON
+     */
+    private void readFields(@Nonnull final Bom pBom)
+        throws IOException
+    {
+        final ObjectNode fields = MAPPER.createObjectNode();
+        JsonToken token = jsonParser.nextToken();
+        while (token == JsonToken.FIELD_NAME) {
+            final String fieldName = jsonParser.currentName();
+            token = jsonParser.nextToken();
+            if (COMPONENTS.equals(fieldName) && token == JsonToken.START_ARRAY) {
+                inComponents = true;
+                break;
+            }
+            final JsonNode value = MAPPER.readTree(jsonParser);
+            fields.set(fieldName, value);
+            token = jsonParser.nextToken();
+        }
+        if (fields.size() > 0) {
+            MAPPER.readerForUpdating(pBom).readValue(fields);
+        }
+    }
+
+
+
+    /**
+     * Read only the top-level fields which identify a Standard BOM: <code>bomFormat</code>, <code>specVersion</code>,
+     * <code>serialNumber</code>, <code>version</code>, <code>metadata</code>, and <code>definitions</code>. All other
+     * fields, including the components, are skipped at the token level. Reading stops as soon as
+     * <code>metadata</code>, <code>serialNumber</code>, and <code>definitions</code> have been found, where
+     * <code>definitions</code> is not waited for if the <code>specVersion</code> shows that it cannot be present.
+     *
+     * @param pJsonStream the input to read. It is closed by this method.
+     * @return an SBOM which contains only the fields listed above
+     * @throws IOException error reading from the input, or syntax error in JSON
+     */
+    @Nonnull
+    static StandardBom probe(@Nonnull final InputStream pJsonStream)
+        throws IOException
+    {
+        try (InputStream is = pJsonStream; JsonParser parser = MAPPER.getFactory().createParser(is)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new StandardBomException("Not a JSON document - probing is only supported for JSON input");
+            }
+            final ObjectNode fields = MAPPER.createObjectNode();
+            JsonToken token = parser.nextToken();
+            while (token == JsonToken.FIELD_NAME && !isProbeComplete(fields)) {
+                final String fieldName = parser.currentName();
+                parser.nextToken();
+                if (PROBED_FIELDS.contains(fieldName)) {
+                    fields.set(fieldName, MAPPER.readTree(parser));
+                }
+                else {
+                    parser.skipChildren();
+                }
+                token = parser.nextToken();
+            }
+
+            final Bom bom = new Bom();
+            if (fields.size() > 0) {
+                MAPPER.readerForUpdating(bom).readValue(fields);
+            }
+            return new StandardBom(bom);
+        }
+    }
+
+
+
+    private static boolean isProbeComplete(@Nonnull final ObjectNode pFields)
+    {
+        return pFields.has(METADATA) && pFields.has(SERIAL_NUMBER) && (pFields.has(DEFINITIONS)
+            || (pFields.has(SPEC_VERSION) && PRE_DEFINITIONS_SPEC_VERSIONS.contains(
+            pFields.get(SPEC_VERSION).asText())));
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the SBOM without its components. It is updated with the fields following the components once the
+     * iteration is complete.
+     */
+    @Nonnull
+    public StandardBom getHeader()
+    {
+        return header;
+    }
+
+
+
+    @Override
+    public boolean hasNext()
+    {
+        if (nextEntry == null && inComponents) {
+            try {
+                if (jsonParser.nextToken() == JsonToken.START_OBJECT) {
+                    nextEntry = new BomEntry(MAPPER.readValue(jsonParser, Component.class));
+                    count++;
+                }
+                else {
+                    inComponents = false;
+                    readFields(header.getCycloneDxBom());
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Streamed " + count + " components from Standard BOM");
+                    }
+                }
+            }
+            catch (IOException e) {
+                throw new StandardBomException("Failed to read the next component", e);
+            }
+        }
+        return nextEntry != null;
+    }
+
+
+
+    @Override
+    public BomEntry next()
+    {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final BomEntry result = nextEntry;
+        nextEntry = null;
+        return result;
+    }
+
+
+
+    /**
+     * Provide the remaining components as a sequential {@link Stream}. Closing the stream also closes this reader.
+     *
+     * @return a stream of components
+     */
+    @Nonnull
+    public Stream<BomEntry> stream()
+    {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+            Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> {
+                try {
+                    close();
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+
+
+    @Override
+    public void close()
+        throws IOException
+    {
+        jsonParser.close();
+    }
+}
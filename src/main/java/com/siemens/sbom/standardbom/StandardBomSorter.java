@@ -0,0 +1,294 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.cyclonedx.model.Component;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Sorts BOM entries in the order defined by {@link BomEntrySortComparator}, but much faster on large inputs. The sort
+ * keys of each entry are read only once, instead of once per comparison, and large inputs can be sorted in parallel.
+ * <p>The resulting order is exactly the same as when sorting with the comparator. The <code>pDeterministic</code>
+ * flag corresponds to the comparator's deterministic mode.</p>
+ */
+public final class StandardBomSorter
+{
+    private static final Comparator<String> STRING_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private static final Comparator<SortKey> KEY_ORDER = (pKey1, pKey2) -> compareKeys(pKey1, pKey2, false);
+
+    private static final Comparator<SortKey> DETERMINISTIC_KEY_ORDER =
+        (pKey1, pKey2) -> compareKeys(pKey1, pKey2, true);
+
+
+
+    /**
+     * The values of a BOM entry which are relevant for sorting.
+     */
+    private static final class SortKey
+    {
+        @CheckForNull
+        private final BomEntry entry;
+
+        private final int typeOrder;
+
+        private final String group;
+
+        private final String name;
+
+        private final String filename;
+
+        private final String version;
+
+        private final String sha1;
+
+        private final int identityHash;
+
+        private final String purl;
+
+        private final String bomRef;
+
+        /** Computed only when needed, because ties on all other keys are rare */
+        private String hashes = null;
+
+        private boolean hashesComputed = false;
+
+        /** Computed only when needed, because ties on all other keys are rare */
+        private String properties = null;
+
+        private boolean propertiesComputed = false;
+
+        /** Computed only when needed, because ties on all other keys are rare */
+        private String json = null;
+
+
+
+        SortKey(@Nullable final BomEntry pEntry)
+        {
+            entry = pEntry;
+            if (pEntry != null) {
+                typeOrder = pEntry.getType() != null ? pEntry.getType().ordinal() : Integer.MAX_VALUE;
+                group = pEntry.getGroup();
+                name = pEntry.getName();
+                filename = pEntry.getFilename();
+                version = pEntry.getVersion();
+                sha1 = pEntry.getSha1();
+                purl = pEntry.getPurl();
+                bomRef = pEntry.getBomRef();
+            }
+            else {
+                typeOrder = 0;
+                group = null;
+                name = null;
+                filename = null;
+                version = null;
+                sha1 = null;
+                purl = null;
+                bomRef = null;
+            }
+            identityHash = System.identityHashCode(pEntry);
+        }
+
+
+
+        @CheckForNull
+        String getHashes()
+        {
+            if (!hashesComputed) {
+                //noinspection ConstantConditions - only called for non-null entries
+                hashes = BomEntrySortComparator.hashesKey(entry);
+                hashesComputed = true;
+            }
+            return hashes;
+        }
+
+
+
+        @CheckForNull
+        String getProperties()
+        {
+            if (!propertiesComputed) {
+                //noinspection ConstantConditions - only called for non-null entries
+                properties = BomEntrySortComparator.propertiesKey(entry);
+                propertiesComputed = true;
+            }
+            return properties;
+        }
+
+
+
+        @Nonnull
+        String getJson()
+        {
+            if (json == null) {
+                //noinspection ConstantConditions - only called for non-null entries
+                json = BomEntrySortComparator.jsonKey(entry);
+            }
+            return json;
+        }
+    }
+
+
+
+    private StandardBomSorter()
+    {
+        // utility class
+    }
+
+
+
+    private static int compareKeys(final SortKey pKey1, final SortKey pKey2, final boolean pDeterministic)
+    {
+        if (pKey1.entry == null || pKey2.entry == null) {
+            return Boolean.compare(pKey1.entry == null, pKey2.entry == null);
+        }
+        int result = Integer.compare(pKey1.typeOrder, pKey2.typeOrder);
+        if (result == 0) {
+            result = STRING_ORDER.compare(pKey1.group, pKey2.group);
+        }
+        if (result == 0) {
+            result = STRING_ORDER.compare(pKey1.name, pKey2.name);
+        }
+        if (result == 0) {
+            result = STRING_ORDER.compare(pKey1.filename, pKey2.filename);
+        }
+        if (result == 0) {
+            result = STRING_ORDER.compare(pKey1.version, pKey2.version);
+        }
+        if (result == 0) {
+            result = STRING_ORDER.compare(pKey1.sha1, pKey2.sha1);
+        }
+        if (result == 0) {
+            if (pDeterministic) {
+                result = compareContent(pKey1, pKey2);
+            }
+            else {
+                result = Integer.compare(pKey1.identityHash, pKey2.identityHash);
+            }
+        }
+        return result;
+    }
+
+
+
+    private static int compareContent(final SortKey pKey1, final SortKey pKey2)
+    {
+        int result = STRING_ORDER.compare(pKey1.purl, pKey2.purl);
+        if (result == 0) {
+            result = STRING_ORDER.compare(pKey1.bomRef, pKey2.bomRef);
+        }
+        if (result == 0) {
+            result = STRING_ORDER.compare(pKey1.getHashes(), pKey2.getHashes());
+        }
+        if (result == 0) {
+            result = STRING_ORDER.compare(pKey1.getProperties(), pKey2.getProperties());
+        }
+        if (result == 0 && pKey1.entry != pKey2.entry) {
+            result = pKey1.getJson().compareTo(pKey2.getJson());
+        }
+        return result;
+    }
+
+
+
+    /**
+     * Sort the given list of BOM entries in place.
+     *
+     * @param pEntries the list to sort, which must be modifiable. May contain <code>null</code> elements, which are
+     * put at the end.
+     * @param pParallel <code>true</code> to use multiple threads (from the common fork/join pool) on large lists
+     */
+    public static void sort(@Nonnull final List<BomEntry> pEntries, final boolean pParallel)
+    {
+        sort(pEntries, pParallel, false);
+    }
+
+
+
+    /**
+     * Sort the given list of BOM entries in place.
+     *
+     * @param pEntries the list to sort, which must be modifiable. May contain <code>null</code> elements, which are
+     * put at the end.
+     * @param pParallel <code>true</code> to use multiple threads (from the common fork/join pool) on large lists
+     * @param pDeterministic <code>true</code> to break ties by content, so that the order is the same across JVM runs
+     */
+    public static void sort(@Nonnull final List<BomEntry> pEntries, final boolean pParallel,
+        final boolean pDeterministic)
+    {
+        final SortKey[] keys = sortKeys(pEntries, pParallel, pDeterministic);
+        final ListIterator<BomEntry> iter = pEntries.listIterator();
+        for (SortKey key : keys) {
+            iter.next();
+            iter.set(key.entry);
+        }
+    }
+
+
+
+    /**
+     * Sort the top-level components of the given SBOM in place.
+     *
+     * @param pBom the SBOM whose components to sort
+     * @param pParallel <code>true</code> to use multiple threads (from the common fork/join pool) on large SBOMs
+     */
+    public static void sort(@Nonnull final StandardBom pBom, final boolean pParallel)
+    {
+        sort(pBom, pParallel, false);
+    }
+
+
+
+    /**
+     * Sort the top-level components of the given SBOM in place.
+     *
+     * @param pBom the SBOM whose components to sort
+     * @param pParallel <code>true</code> to use multiple threads (from the common fork/join pool) on large SBOMs
+     * @param pDeterministic <code>true</code> to break ties by content, so that the order is the same across JVM runs
+     */
+    public static void sort(@Nonnull final StandardBom pBom, final boolean pParallel, final boolean pDeterministic)
+    {
+        final SortKey[] keys = sortKeys(pBom.getComponents(), pParallel, pDeterministic);
+        final List<Component> sorted = new ArrayList<>(keys.length);
+        for (SortKey key : keys) {
+            //noinspection ConstantConditions - the components of a StandardBom are never null
+            sorted.add(key.entry.getCycloneDxComponent());
+        }
+        pBom.getCycloneDxBom().setComponents(sorted);
+    }
+
+
+
+    @Nonnull
+    private static SortKey[] sortKeys(@Nonnull final List<BomEntry> pEntries, final boolean pParallel,
+        final boolean pDeterministic)
+    {
+        final SortKey[] keys = new SortKey[pEntries.size()];
+        int i = 0;
+        for (BomEntry entry : pEntries) {
+            keys[i++] = new SortKey(entry);
+        }
+        final Comparator<SortKey> order = pDeterministic ? DETERMINISTIC_KEY_ORDER : KEY_ORDER;
+        if (pParallel) {
+            Arrays.parallelSort(keys, order);
+        }
+        else {
+            Arrays.sort(keys, order);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,535 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.ExternalReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.siemens.sbom.standardbom.internal.BomJsonMapper;
+import com.siemens.sbom.standardbom.internal.CanonicalOrder;
+import com.siemens.sbom.standardbom.internal.ComponentSerializerModifier;
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.ExternalComponent;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Writes a Standard BOM in JSON format incrementally, so that very large SBOMs never need to be held in memory as a
+ * whole. The output is exactly the same as what {@link StandardBomParser#stringify(StandardBom)} produces for the
+ * same content.
+ * <p>The writer is created with a <em>header</em> SBOM, which provides the metadata and all other fields. Components,
+ * external components, and dependencies can then be added one by one, in this order. Any components, external
+ * components, or dependencies already present in the header are written before the added ones. Other fields of the
+ * header are written when the writer is closed, so they may still be modified until then.</p>
+ * <p>By default, the output is pretty-printed. With {@link OutputStyle#Compact}, the same content is written without
+ * any whitespace between tokens, and {@link StandardBomParser#parse(java.io.InputStream) parsed} back the same.</p>
+ * <p>Closing the writer completes the JSON document and closes the underlying stream.</p>
+ * <p>The writer never modifies the objects it writes.</p>
+ */
+@NotThreadSafe
+public class StandardBomWriter
+    implements Closeable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(StandardBomWriter.class);
+
+    private static final String PURL_PREFIX = "pkg:";
+
+    private static final String PURL_ESCAPE = "http://PURL-ESCAPE/";
+
+
+
+    /**
+     * The sections of the SBOM which can be written incrementally, in the order in which they occur in the output.
+     */
+    private enum Section
+    {
+        Components("components"),
+        ExternalComponents("externalReferences"),
+        Dependencies("dependencies");
+
+        private final String fieldName;
+
+
+
+        Section(@Nonnull final String pFieldName)
+        {
+            fieldName = pFieldName;
+        }
+
+
+
+        @CheckForNull
+        static Section forFieldName(@Nonnull final String pFieldName)
+        {
+            for (Section section : values()) {
+                if (section.fieldName.equals(pFieldName)) {
+                    return section;
+                }
+            }
+            return null;
+        }
+    }
+
+
+
+    private final JsonGenerator generator;
+
+    private final OutputStyle style;
+
+    /** writes the top-level external references, where purls are allowed as urls */
+    private final JsonGenerator extRefGenerator;
+
+    private final SerializerProvider provider;
+
+    private final StandardBom headerSbom;
+
+    private final Bom header;
+
+    private final List<BeanPropertyWriter> fields = new ArrayList<>();
+
+    private int nextField = 0;
+
+    private Section currentSection = null;
+
+    private boolean arrayStarted = false;
+
+    private boolean closed = false;
+
+    private long count = 0L;
+
+
+
+    /**
+     * Constructor. Writes the beginning of the document, up to the components.
+     *
+     * @param pOutputStream the stream to write to. The writer takes ownership of it.
+     * @param pHeader SBOM providing the metadata and all other fields
+     * @throws IOException error writing to the stream
+     * @throws StandardBomException the header could not be serialized
+     */
+    public StandardBomWriter(@Nonnull final OutputStream pOutputStream, @Nonnull final StandardBom pHeader)
+        throws IOException
+    {
+        this(pOutputStream, pHeader, OutputStyle.Pretty);
+    }
+
+
+
+    /**
+     * Constructor. Writes the beginning of the document, up to the components.
+     *
+     * @param pOutputStream the stream to write to. The writer takes ownership of it.
+     * @param pHeader SBOM providing the metadata and all other fields
+     * @param pStyle the layout of the JSON text
+     * @throws IOException error writing to the stream
+     * @throws StandardBomException the header could not be serialized
+     */
+    public StandardBomWriter(@Nonnull final OutputStream pOutputStream, @Nonnull final StandardBom pHeader,
+        @Nonnull final OutputStyle pStyle)
+        throws IOException
+    {
+        this(objectWriter(pStyle).createGenerator(pOutputStream, JsonEncoding.UTF8), pHeader, pStyle);
+    }
+
+
+
+    /**
+     * Constructor. Writes the beginning of the document, up to the components.
+     *
+     * @param pWriter the character stream to write to. The writer takes ownership of it.
+     * @param pHeader SBOM providing the metadata and all other fields
+     * @param pStyle the layout of the JSON text
+     * @throws IOException error writing to the stream
+     * @throws StandardBomException the header could not be serialized
+     */
+    StandardBomWriter(@Nonnull final Writer pWriter, @Nonnull final StandardBom pHeader,
+        @Nonnull final OutputStyle pStyle)
+        throws IOException
+    {
+        this(objectWriter(pStyle).createGenerator(pWriter), pHeader, pStyle);
+    }
+
+
+
+    private StandardBomWriter(@Nonnull final JsonGenerator pGenerator, @Nonnull final StandardBom pHeader,
+        @Nonnull final OutputStyle pStyle)
+        throws IOException
+    {
+        generator = pGenerator;
+        style = pStyle;
+        headerSbom = pHeader;
+        header = pHeader.getCycloneDxBom();
+        extRefGenerator = new JsonGeneratorDelegate(generator, false)
+        {
+            @Override
+            public void writeString(final String pText)
+                throws IOException
+            {
+                super.writeString(pText != null && pText.startsWith(PURL_ESCAPE)
+                    ? PURL_PREFIX + pText.substring(PURL_ESCAPE.length()) : pText);
+            }
+        };
+        provider = ((ObjectMapper) generator.getCodec()).getSerializerProviderInstance();
+        try {
+            final JsonSerializer<Object> bomSerializer = provider.findTypedValueSerializer(Bom.class, true, null);
+            for (Iterator<PropertyWriter> iter = bomSerializer.properties(); iter.hasNext();) {
+                fields.add((BeanPropertyWriter) iter.next());
+            }
+
+            generator.writeStartObject(header);
+            if (style != OutputStyle.Pretty) {
+                generator.writeRaw("\"$schema\":\"" + BomJsonMapper.SCHEMA_URL + "\",");
+            }
+            else {
+                generator.writeRaw(System.lineSeparator() + "  \"$schema\": \"" + BomJsonMapper.SCHEMA_URL + "\",");
+            }
+            writeFieldsUntil(Section.Components);
+        }
+        catch (IOException | RuntimeException e) {
+            generator.close();
+            throw e;
+        }
+    }
+
+
+
+    /**
+     * Constructor. Writes the beginning of the document, up to the components.
+     *
+     * @param pChannel the channel to write to. The writer takes ownership of it.
+     * @param pHeader SBOM providing the metadata and all other fields
+     * @throws IOException error writing to the channel
+     * @throws StandardBomException the header could not be serialized
+     */
+    public StandardBomWriter(@Nonnull final WritableByteChannel pChannel, @Nonnull final StandardBom pHeader)
+        throws IOException
+    {
+        this(Channels.newOutputStream(pChannel), pHeader, OutputStyle.Pretty);
+    }
+
+
+
+    /**
+     * Constructor. Writes the beginning of the document, up to the components.
+     *
+     * @param pChannel the channel to write to. The writer takes ownership of it.
+     * @param pHeader SBOM providing the metadata and all other fields
+     * @param pStyle the layout of the JSON text
+     * @throws IOException error writing to the channel
+     * @throws StandardBomException the header could not be serialized
+     */
+    public StandardBomWriter(@Nonnull final WritableByteChannel pChannel, @Nonnull final StandardBom pHeader,
+        @Nonnull final OutputStyle pStyle)
+        throws IOException
+    {
+        this(Channels.newOutputStream(pChannel), pHeader, pStyle);
+    }
+
+
+
+    @Nonnull
+    private static ObjectWriter objectWriter(@Nonnull final OutputStyle pStyle)
+    {
+        switch (pStyle) {
+            case Pretty:
+                return BomJsonMapper.getWriter();
+            case Canonical:
+                return BomJsonMapper.getCanonicalWriter();
+            default:
+                return BomJsonMapper.getCompactWriter();
+        }
+    }
+
+
+
+    /**
+     * Write a component.
+     *
+     * @param pComponent the component to write
+     * @throws IOException error writing to the stream
+     * @throws IllegalStateException external components or dependencies have already been written, or the writer is
+     * closed
+     */
+    public void addComponent(@Nonnull final BomEntry pComponent)
+        throws IOException
+    {
+        enterSection(Section.Components);
+        writeComponent(pComponent.getCycloneDxComponent());
+    }
+
+
+
+    /**
+     * Write an external component.
+     *
+     * @param pExternalComponent the external component to write
+     * @throws IOException error writing to the stream
+     * @throws IllegalStateException dependencies have already been written, or the writer is closed
+     */
+    public void addExternalComponent(@Nonnull final ExternalComponent pExternalComponent)
+        throws IOException
+    {
+        enterSection(Section.ExternalComponents);
+        writeExternalReference(pExternalComponent.getCycloneDxRef());
+    }
+
+
+
+    /**
+     * Write a dependency.
+     *
+     * @param pDependency the dependency to write
+     * @throws IOException error writing to the stream
+     * @throws IllegalStateException the writer is closed
+     */
+    public void addDependency(@Nonnull final Dependency pDependency)
+        throws IOException
+    {
+        enterSection(Section.Dependencies);
+        writeDependency(pDependency);
+    }
+
+
+
+    private void enterSection(@Nonnull final Section pSection)
+        throws IOException
+    {
+        if (closed) {
+            throw new IllegalStateException("StandardBomWriter is already closed");
+        }
+        if (currentSection != pSection) {
+            finishSection();
+            writeFieldsUntil(pSection);
+            if (nextField >= fields.size() || !pSection.fieldName.equals(fields.get(nextField).getName())) {
+                throw new IllegalStateException("Too late to add " + pSection.fieldName
+                    + " - components, external components, and dependencies must be added in this order");
+            }
+            nextField++;
+            startSection(pSection);
+        }
+    }
+
+
+
+    /**
+     * Write the fields of the header up to the given section, or up to the end if <code>null</code>.
+     *
+     * @param pSection the section to stop at
+     * @throws IOException error writing to the stream
+     */
+    private void writeFieldsUntil(final Section pSection)
+        throws IOException
+    {
+        while (nextField < fields.size()) {
+            final BeanPropertyWriter field = fields.get(nextField);
+            final Section section = Section.forFieldName(field.getName());
+            if (section != null && section == pSection) {
+                break;
+            }
+            nextField++;
+            if (section != null) {
+                startSection(section);
+                finishSection();
+            }
+            else if ("bomFormat".equals(field.getName())) {
+                generator.writeStringField(field.getName(), "CycloneDX");
+            }
+            else if ("specVersion".equals(field.getName())) {
+                generator.writeStringField(field.getName(), BomJsonMapper.SPEC_VERSION.getVersionString());
+            }
+            else {
+                try {
+                    field.serializeAsField(header, generator, provider);
+                }
+                catch (IOException | RuntimeException e) {
+                    throw e;
+                }
+                catch (Exception e) {
+                    throw new StandardBomException("Failed to write field '" + field.getName() + "'", e);
+                }
+            }
+        }
+    }
+
+
+
+    /**
+     * Open the given section and write the items it already contains in the header.
+     *
+     * @param pSection the section to open
+     * @throws IOException error writing to the stream
+     */
+    private void startSection(@Nonnull final Section pSection)
+        throws IOException
+    {
+        currentSection = pSection;
+        switch (pSection) {
+            case Components:
+                List<BomEntry> components = headerSbom.getComponents();
+                if (style == OutputStyle.Canonical) {
+                    components = new ArrayList<>(components);
+                    StandardBomSorter.sort(components, false, true);
+                }
+                for (BomEntry component : components) {
+                    writeComponent(component.getCycloneDxComponent());
+                }
+                break;
+            case ExternalComponents:
+                if (header.getExternalReferences() != null) {
+                    final List<ExternalReference> extRefs =
+                        canonical(header.getExternalReferences(), CanonicalOrder.EXTERNAL_REFERENCES);
+                    for (ExternalReference extRef : extRefs) {
+                        writeExternalReference(extRef);
+                    }
+                }
+                break;
+            case Dependencies:
+                if (header.getDependencies() != null) {
+                    startArray();   // the dependencies serializer writes an empty array rather than omitting it
+                    for (Dependency dependency : canonical(header.getDependencies(), CanonicalOrder.DEPENDENCIES)) {
+                        writeDependency(dependency);
+                    }
+                }
+                break;
+            default:
+                throw new IllegalStateException("unknown section: " + pSection);
+        }
+    }
+
+
+
+    @Nonnull
+    private <T> List<T> canonical(@Nonnull final List<T> pList, @Nonnull final Comparator<? super T> pOrder)
+    {
+        return style == OutputStyle.Canonical ? CanonicalOrder.sorted(pList, pOrder) : pList;
+    }
+
+
+
+    private void startArray()
+        throws IOException
+    {
+        if (!arrayStarted) {
+            generator.writeArrayFieldStart(currentSection.fieldName);
+            arrayStarted = true;
+        }
+    }
+
+
+
+    private void finishSection()
+        throws IOException
+    {
+        if (arrayStarted) {
+            generator.writeEndArray();
+            arrayStarted = false;
+        }
+        currentSection = null;
+    }
+
+
+
+    private void writeComponent(@Nonnull final Component pComponent)
+        throws IOException
+    {
+        startArray();
+        provider.setAttribute(ComponentSerializerModifier.TOP_LEVEL_COMPONENT, pComponent);
+        provider.defaultSerializeValue(pComponent, generator);
+        count++;
+    }
+
+
+
+    private void writeExternalReference(@Nonnull final ExternalReference pExtRef)
+        throws IOException
+    {
+        startArray();
+        ExternalReference extRef = pExtRef;
+        if (extRef.getUrl() != null && extRef.getUrl().startsWith(PURL_PREFIX)) {
+            // the upstream serializer does not accept purls as urls, although this is legal
+            extRef = new ExternalReference();
+            extRef.setType(pExtRef.getType());
+            extRef.setUrl(PURL_ESCAPE + pExtRef.getUrl().substring(PURL_PREFIX.length()));
+            extRef.setComment(pExtRef.getComment());
+            extRef.setHashes(pExtRef.getHashes());
+        }
+        provider.defaultSerializeValue(extRef, extRefGenerator);
+    }
+
+
+
+    private void writeDependency(@Nonnull final Dependency pDependency)
+        throws IOException
+    {
+        startArray();
+        generator.writeStartObject();
+        generator.writeStringField("ref", pDependency.getRef());
+        generator.writeArrayFieldStart("dependsOn");
+        if (pDependency.getDependencies() != null) {
+            for (Dependency dependsOn : canonical(pDependency.getDependencies(), CanonicalOrder.DEPENDENCIES)) {
+                generator.writeString(dependsOn.getRef());
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+
+
+    /**
+     * Write the remaining fields of the header and complete the document.
+     *
+     * @throws IOException error writing to the stream
+     */
+    @Override
+    public void close()
+        throws IOException
+    {
+        if (!closed) {
+            closed = true;
+            try {
+                finishSection();
+                writeFieldsUntil(null);
+                generator.writeEndObject();
+                if (style == OutputStyle.Pretty) {
+                    generator.writeRaw(System.lineSeparator());
+                }
+            }
+            finally {
+                generator.close();
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Wrote " + count + " components to Standard BOM");
+            }
+        }
+    }
+}
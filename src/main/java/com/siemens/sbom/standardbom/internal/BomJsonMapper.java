@@ -0,0 +1,152 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.internal;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.cfg.ContextAttributes;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.BomReference;
+import org.cyclonedx.util.mixin.MixInBomReference;
+
+
+/**
+ * Provides the Jackson <code>ObjectMapper</code> for writing Standard BOMs. It is configured exactly like the one
+ * used by the CycloneDX {@link BomJsonGenerator}, plus our own {@link ComponentSerializerModifier}.
+ * <p>The mapper is created once and shared. Jackson mappers are thread-safe once configured.</p>
+ */
+public final class BomJsonMapper
+{
+    /** The CycloneDX specification version that we write */
+    public static final Version SPEC_VERSION = Version.VERSION_16;
+
+    /** The value of the <code>$schema</code> attribute which we add to the top of each document */
+    public static final String SCHEMA_URL = "http://cyclonedx.org/schema/bom-1.6.schema.json";
+
+    private static final ObjectMapper MAPPER = createMapper();
+
+    private static final ObjectWriter PRETTY_WRITER = MAPPER.writer(createPrettyPrinter());
+
+    private static final ObjectWriter COMPACT_WRITER = MAPPER.writer();
+
+    private static final ObjectWriter CANONICAL_WRITER = createMapper().setDefaultAttributes(
+        ContextAttributes.getEmpty().withSharedAttribute(ComponentSerializerModifier.CANONICAL, Boolean.TRUE)).writer();
+
+
+
+    /**
+     * We extend the CycloneDX generator only in order to get hold of its fully configured mapper.
+     */
+    private static class MapperSource
+        extends BomJsonGenerator
+    {
+        MapperSource()
+        {
+            super(new Bom(), SPEC_VERSION);
+        }
+
+
+
+        ObjectMapper getMapper()
+        {
+            return mapper;
+        }
+    }
+
+
+
+    private BomJsonMapper()
+    {
+        // utility class
+    }
+
+
+
+    private static ObjectMapper createMapper()
+    {
+        final ObjectMapper result = new MapperSource().getMapper();
+        result.addMixIn(BomReference.class, MixInBomReference.class);
+        final SimpleModule componentModule = new SimpleModule();
+        componentModule.setSerializerModifier(new ComponentSerializerModifier());
+        result.registerModule(componentModule);
+        return result;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the shared mapper instance, which must not be reconfigured
+     */
+    @Nonnull
+    public static ObjectMapper getMapper()
+    {
+        return MAPPER;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the shared writer which produces the same layout as the CycloneDX generator. Each generator it creates
+     * gets its own pretty printer instance, so it may be used by several threads concurrently.
+     */
+    @Nonnull
+    public static ObjectWriter getWriter()
+    {
+        return PRETTY_WRITER;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the shared writer which produces JSON without any whitespace between tokens
+     */
+    @Nonnull
+    public static ObjectWriter getCompactWriter()
+    {
+        return COMPACT_WRITER;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the shared writer which produces the canonical form, without any whitespace between tokens. It uses its
+     * own mapper, so that the canonical form also applies to the objects which CycloneDX serializes by itself.
+     */
+    @Nonnull
+    public static ObjectWriter getCanonicalWriter()
+    {
+        return CANONICAL_WRITER;
+    }
+
+
+
+    /**
+     * Create a new pretty printer which produces the same layout as the CycloneDX generator.
+     *
+     * @return a new pretty printer instance
+     */
+    @Nonnull
+    public static DefaultPrettyPrinter createPrettyPrinter()
+    {
+        final DefaultPrettyPrinter result = new DefaultPrettyPrinter();
+        result.indentArraysWith(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE);
+        return result;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.ExternalReference;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.License;
+import org.cyclonedx.model.LicenseChoice;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.OrganizationalContact;
+import org.cyclonedx.model.Property;
+import org.cyclonedx.model.Service;
+import org.cyclonedx.model.metadata.ToolInformation;
+
+
+/**
+ * The order of list elements in the canonical form of a Standard BOM. Elements are ordered by their content only, so
+ * that two SBOMs with the same content always produce the same canonical output.
+ */
+public final class CanonicalOrder
+{
+    private static final Comparator<String> STRING_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+    /** Hashes, by algorithm and value */
+    public static final Comparator<Hash> HASHES = Comparator.nullsLast(
+        Comparator.comparing(Hash::getAlgorithm, STRING_ORDER).thenComparing(Hash::getValue, STRING_ORDER));
+
+    /** External references, by type, URL, comment, and hashes */
+    public static final Comparator<ExternalReference> EXTERNAL_REFERENCES = Comparator.nullsLast(
+        Comparator.comparing((ExternalReference pRef) -> pRef.getType() != null ? pRef.getType().name() : null,
+                STRING_ORDER)
+            .thenComparing(ExternalReference::getUrl, STRING_ORDER)
+            .thenComparing(ExternalReference::getComment, STRING_ORDER)
+            .thenComparing((ExternalReference pRef) -> hashesKey(pRef.getHashes()), STRING_ORDER));
+
+    /** Dependencies, by the reference of the dependent component */
+    public static final Comparator<Dependency> DEPENDENCIES =
+        Comparator.nullsLast(Comparator.comparing(Dependency::getRef, STRING_ORDER));
+
+    /** Properties, by name and value */
+    public static final Comparator<Property> PROPERTIES = CustomPropertySorter.INSTANCE;
+
+    /** Licenses, by SPDX license ID, name, and URL */
+    public static final Comparator<License> LICENSES = Comparator.nullsLast(
+        Comparator.comparing(License::getId, STRING_ORDER)
+            .thenComparing(License::getName, STRING_ORDER)
+            .thenComparing(License::getUrl, STRING_ORDER));
+
+    /** Authors and other contacts, by name, email, and phone number */
+    public static final Comparator<OrganizationalContact> CONTACTS = Comparator.nullsLast(
+        Comparator.comparing(OrganizationalContact::getName, STRING_ORDER)
+            .thenComparing(OrganizationalContact::getEmail, STRING_ORDER)
+            .thenComparing(OrganizationalContact::getPhone, STRING_ORDER));
+
+    /** Components, by type, group, name, version, purl, and bom-ref */
+    public static final Comparator<Component> COMPONENTS = Comparator.nullsLast(
+        Comparator.comparing((Component pComp) -> pComp.getType() != null ? pComp.getType().name() : null,
+                STRING_ORDER)
+            .thenComparing(Component::getGroup, STRING_ORDER)
+            .thenComparing(Component::getName, STRING_ORDER)
+            .thenComparing(Component::getVersion, STRING_ORDER)
+            .thenComparing(Component::getPurl, STRING_ORDER)
+            .thenComparing(Component::getBomRef, STRING_ORDER));
+
+    /** Services, by group, name, version, and bom-ref */
+    public static final Comparator<Service> SERVICES = Comparator.nullsLast(
+        Comparator.comparing(Service::getGroup, STRING_ORDER)
+            .thenComparing(Service::getName, STRING_ORDER)
+            .thenComparing(Service::getVersion, STRING_ORDER)
+            .thenComparing(Service::getBomRef, STRING_ORDER));
+
+    /** Tools in the legacy format, by vendor, name, and version */
+    @SuppressWarnings("deprecation")  // "Tool" class used for interpreting Standard BOM v2 documents
+    public static final Comparator<org.cyclonedx.model.Tool> TOOLS = Comparator.nullsLast(
+        Comparator.comparing(org.cyclonedx.model.Tool::getVendor, STRING_ORDER)
+            .thenComparing(org.cyclonedx.model.Tool::getName, STRING_ORDER)
+            .thenComparing(org.cyclonedx.model.Tool::getVersion, STRING_ORDER));
+
+
+
+    private CanonicalOrder()
+    {
+        // utility class
+    }
+
+
+
+    @CheckForNull
+    private static String hashesKey(@Nullable final List<Hash> pHashes)
+    {
+        if (pHashes == null || pHashes.isEmpty()) {
+            return null;
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (Hash hash : sorted(pHashes, HASHES)) {
+            if (hash != null) {
+                sb.append(hash.getAlgorithm()).append('\0').append(hash.getValue()).append('\0');
+            }
+        }
+        return sb.toString();
+    }
+
+
+
+    @Nullable
+    private static <T> List<T> sortedOrNull(@Nullable final List<T> pList, @Nonnull final Comparator<? super T> pOrder)
+    {
+        return pList != null ? sorted(pList, pOrder) : null;
+    }
+
+
+
+    /**
+     * Sort the given list in canonical order. The list itself is never modified.
+     *
+     * @param pList the list to sort
+     * @param pOrder the canonical order of the list elements
+     * @param <T> the type of the list elements
+     * @return the given list if it is already sorted, or else a sorted copy
+     */
+    @Nonnull
+    public static <T> List<T> sorted(@Nonnull final List<T> pList, @Nonnull final Comparator<? super T> pOrder)
+    {
+        for (int i = 1; i < pList.size(); i++) {
+            if (pOrder.compare(pList.get(i - 1), pList.get(i)) > 0) {
+                final List<T> result = new ArrayList<>(pList);
+                result.sort(pOrder);
+                return result;
+            }
+        }
+        return pList;
+    }
+
+
+
+    /**
+     * Bring a license choice into canonical form by sorting its licenses. The license choice itself is never modified.
+     *
+     * @param pLicenseChoice the license choice
+     * @return the given license choice if it is already in canonical form, or else a copy
+     */
+    @Nonnull
+    public static LicenseChoice canonical(@Nonnull final LicenseChoice pLicenseChoice)
+    {
+        final List<License> licenses = pLicenseChoice.getLicenses();
+        if (licenses == null || sorted(licenses, LICENSES) == licenses) {
+            return pLicenseChoice;
+        }
+        final LicenseChoice result = new LicenseChoice();
+        result.setLicenses(sorted(licenses, LICENSES));
+        if (pLicenseChoice.getExpression() != null) {
+            // the setter would clear the licenses even if the expression is null
+            result.setExpression(pLicenseChoice.getExpression());
+        }
+        return result;
+    }
+
+
+
+    /**
+     * Bring the SBOM metadata into canonical form by sorting the authors, tools, licenses, and properties. The
+     * metadata component is not touched here, because it is brought into canonical form when it is serialized. The
+     * metadata itself is never modified.
+     *
+     * @param pMetadata the metadata
+     * @return a shallow copy of the metadata whose lists are in canonical order
+     */
+    @Nonnull
+    @SuppressWarnings("deprecation")
+    public static Metadata canonical(@Nonnull final Metadata pMetadata)
+    {
+        final Metadata result = new Metadata();
+        result.setTimestamp(pMetadata.getTimestamp());
+        result.setLifecycles(pMetadata.getLifecycles());
+        result.setTools(sortedOrNull(pMetadata.getTools(), TOOLS));
+        if (pMetadata.getToolChoice() != null) {
+            final ToolInformation tools = new ToolInformation();
+            tools.setComponents(sortedOrNull(pMetadata.getToolChoice().getComponents(), COMPONENTS));
+            tools.setServices(sortedOrNull(pMetadata.getToolChoice().getServices(), SERVICES));
+            result.setToolChoice(tools);
+        }
+        result.setAuthors(sortedOrNull(pMetadata.getAuthors(), CONTACTS));
+        result.setComponent(pMetadata.getComponent());
+        result.setManufacturer(pMetadata.getManufacturer());
+        result.setManufacture(pMetadata.getManufacture());
+        result.setSupplier(pMetadata.getSupplier());
+        if (pMetadata.getLicenses() != null) {
+            result.setLicenses(canonical(pMetadata.getLicenses()));
+        }
+        result.setProperties(sortedOrNull(pMetadata.getProperties(), PROPERTIES));
+        return result;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.internal;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Hash;
+
+
+/**
+ * Computes the identity key of a component, which is equal for two components if they describe the same thing,
+ * even when they come from different SBOMs with different bom-refs.
+ * <p>If a component has a package URL, its key is the normalized package URL: the type is lowercased and the
+ * qualifiers are sorted. Otherwise, the key consists of group, name, and version. Different files of the same name
+ * have the same key, so they must be kept apart by checking whether their hashes are
+ * {@link #hashesCompatible compatible}.</p>
+ */
+public final class ComponentIdentity
+{
+    private static final char SEPARATOR = 0;
+
+
+
+    private ComponentIdentity()
+    {
+        // utility class
+    }
+
+
+
+    /**
+     * Compute the identity key of a component.
+     *
+     * @param pComponent the component
+     * @return the identity key, or <code>null</code> if the component has neither a purl, nor a name or a hash, so
+     * that it cannot be identified
+     */
+    @CheckForNull
+    public static String keyOf(@Nonnull final Component pComponent)
+    {
+        final String purl = pComponent.getPurl();
+        if (purl != null && !purl.trim().isEmpty()) {
+            return normalizePurl(purl);
+        }
+
+        if (pComponent.getName() == null && !hasHash(pComponent.getHashes())) {
+            return null;
+        }
+        final StringBuilder sb = new StringBuilder();
+        sb.append(SEPARATOR);  // cannot be a purl
+        appendPart(sb, pComponent.getGroup());
+        appendPart(sb, pComponent.getName());
+        appendPart(sb, pComponent.getVersion());
+        return sb.toString();
+    }
+
+
+
+    /**
+     * Determine whether two components with the same identity key may describe the same file, judging by their
+     * hashes. This is the case if no algorithm has different values in both lists, and if both lists contain hashes,
+     * at least one algorithm has the same value in both. Hash values are compared ignoring case.
+     *
+     * @param pHashes the hashes of one component
+     * @param pOtherHashes the hashes of the other component
+     * @return <code>true</code> if the hashes do not contradict each other
+     */
+    public static boolean hashesCompatible(@Nullable final List<Hash> pHashes, @Nullable final List<Hash> pOtherHashes)
+    {
+        if (!hasHash(pHashes) || !hasHash(pOtherHashes)) {
+            return true;
+        }
+        boolean match = false;
+        for (Hash hash : pHashes) {
+            if (hash != null && hash.getAlgorithm() != null && hash.getValue() != null) {
+                final String other = ListProcessor.HASH.first(pOtherHashes, hash.getAlgorithm());
+                if (other != null) {
+                    if (!other.equalsIgnoreCase(hash.getValue())) {
+                        return false;
+                    }
+                    match = true;
+                }
+            }
+        }
+        return match;
+    }
+
+
+
+    /**
+     * Compute a key which is equal for different versions of the same component. This is the normalized package URL
+     * without its version, or if there is no package URL, the group and name.
+     *
+     * @param pPurl the package URL of the component, if any
+     * @param pGroup the group of the component, if any
+     * @param pName the name of the component, if any
+     * @return the key, or <code>null</code> if the component has neither a purl, nor a name
+     */
+    @CheckForNull
+    public static String unversionedKeyOf(@Nullable final String pPurl, @Nullable final String pGroup,
+        @Nullable final String pName)
+    {
+        if (pPurl != null && !pPurl.trim().isEmpty()) {
+            final String purl = normalizePurl(pPurl);
+            int end = purl.indexOf('?');
+            if (end < 0) {
+                end = purl.indexOf('#');
+            }
+            if (end < 0) {
+                end = purl.length();
+            }
+            final int versionPos = purl.lastIndexOf('@', end);
+            if (versionPos > purl.lastIndexOf('/', end)) {
+                return purl.substring(0, versionPos) + purl.substring(end);
+            }
+            return purl;
+        }
+
+        if (pName == null) {
+            return null;
+        }
+        final StringBuilder sb = new StringBuilder();
+        sb.append(SEPARATOR);
+        appendPart(sb, pGroup);
+        appendPart(sb, pName);
+        return sb.toString();
+    }
+
+
+
+    private static void appendPart(@Nonnull final StringBuilder pSb, @Nullable final String pPart)
+    {
+        if (pPart != null) {
+            pSb.append(pPart);
+        }
+        pSb.append(SEPARATOR);
+    }
+
+
+
+    private static boolean hasHash(@Nullable final List<Hash> pHashes)
+    {
+        if (pHashes != null) {
+            for (Hash hash : pHashes) {
+                if (hash != null && hash.getAlgorithm() != null && hash.getValue() != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+
+
+    /**
+     * Normalize a package URL, so that equivalent package URLs become equal. This is not a full canonicalization as
+     * per the purl specification, but it covers the differences which occur in practice.
+     *
+     * @param pPurl a package URL
+     * @return the normalized package URL
+     */
+    @Nonnull
+    public static String normalizePurl(@Nonnull final String pPurl)
+    {
+        String result = pPurl.trim();
+        String subpath = "";
+        final int hashPos = result.indexOf('#');
+        if (hashPos >= 0) {
+            subpath = result.substring(hashPos);
+            result = result.substring(0, hashPos);
+        }
+        String qualifiers = "";
+        final int queryPos = result.indexOf('?');
+        if (queryPos >= 0) {
+            final String[] parts = result.substring(queryPos + 1).split("&");
+            Arrays.sort(parts);
+            qualifiers = '?' + String.join("&", parts);
+            result = result.substring(0, queryPos);
+        }
+        final int typeEnd = result.indexOf('/');
+        if (typeEnd > 0 && hasUpperCase(result, typeEnd)) {
+            result = result.substring(0, typeEnd).toLowerCase(Locale.ROOT) + result.substring(typeEnd);
+        }
+        return qualifiers.isEmpty() && subpath.isEmpty() ? result : result + qualifiers + subpath;
+    }
+
+
+
+    private static boolean hasUpperCase(@Nonnull final String pValue, final int pEnd)
+    {
+        for (int i = 0; i < pEnd; i++) {
+            if (Character.isUpperCase(pValue.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
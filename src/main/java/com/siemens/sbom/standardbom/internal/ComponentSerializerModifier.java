@@ -0,0 +1,392 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import javax.annotation.CheckForNull;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerBuilder;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.LicenseChoice;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.Property;
+
+import com.siemens.sbom.standardbom.model.CustomProperty;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Modifies the serialization of CycloneDX Components so that the line breaks in copyright statements and third-party
+ * notices are preserved. The upstream serializer replaces all line breaks with spaces, which is fine for most fields,
+ * but destroys the formatting of these legal texts. Also, custom properties are written in sorted order.
+ * <p>Only top-level components are affected. The component currently being written must be registered as attribute
+ * {@link #TOP_LEVEL_COMPONENT} of the serializer provider.</p>
+ * <p>If the attribute {@link #CANONICAL} is set, all lists whose order carries no meaning are written in
+ * {@link CanonicalOrder canonical order}: the hashes, external references, properties, authors, licenses, and
+ * subcomponents of components at any level, and the authors, tools, licenses, and properties of the metadata. The
+ * serializers of CycloneDX write nested objects using a new serializer provider, so the attribute must be set as a
+ * default attribute of the mapper, not only on the provider.</p>
+ */
+public class ComponentSerializerModifier
+    extends BeanSerializerModifier
+{
+    private static final long serialVersionUID = 1L;
+
+    /** Name of the serializer provider attribute which holds the top-level component being written. */
+    public static final String TOP_LEVEL_COMPONENT = ComponentSerializerModifier.class.getName() + ".component";
+
+    /** Name of the serializer provider attribute which is {@link Boolean#TRUE} when writing the canonical form. */
+    public static final String CANONICAL = ComponentSerializerModifier.class.getName() + ".canonical";
+
+    private static final String THIRD_PARTY_NOTICES =
+        StandardBom.CUSTOM_PROPERTY_NAMESPACE + ":" + CustomProperty.THIRD_PARTY_NOTICES;
+
+
+
+    /**
+     * Writes the copyright statement of a component.
+     */
+    private static class CopyrightSerializer
+        extends StdSerializer<Object>
+    {
+        private static final long serialVersionUID = 1L;
+
+
+
+        CopyrightSerializer()
+        {
+            super(String.class, false);
+        }
+
+
+
+        @Override
+        public void serialize(final Object pValue, final JsonGenerator pGen, final SerializerProvider pProvider)
+            throws IOException
+        {
+            pGen.writeString(WhitespaceNormalizer.normalize((String) pValue, isTopLevel(pGen, pProvider)));
+        }
+    }
+
+
+
+    /**
+     * Writes the list of custom properties of a component.
+     */
+    private static class PropertiesSerializer
+        extends StdSerializer<Object>
+    {
+        private static final long serialVersionUID = 1L;
+
+
+
+        PropertiesSerializer()
+        {
+            super(List.class, false);
+        }
+
+
+
+        @Override
+        public boolean isEmpty(final SerializerProvider pProvider, final Object pValue)
+        {
+            return pValue == null || ((List<?>) pValue).isEmpty();
+        }
+
+
+
+        @Override
+        public void serialize(final Object pValue, final JsonGenerator pGen, final SerializerProvider pProvider)
+            throws IOException
+        {
+            final boolean topLevel = isTopLevel(pGen, pProvider);
+            @SuppressWarnings("unchecked")
+            List<Property> properties = (List<Property>) pValue;
+            if ((topLevel || isCanonical(pProvider)) && !isSorted(properties)) {
+                // sort a copy, so that the BOM being serialized is never modified
+                properties = new ArrayList<>(properties);
+                properties.sort(CustomPropertySorter.INSTANCE);
+            }
+
+            pGen.writeStartArray();
+            for (Property property : properties) {
+                if (property != null) {
+                    writeProperty(property, topLevel, pGen);
+                }
+                else {
+                    pProvider.defaultSerializeNull(pGen);
+                }
+            }
+            pGen.writeEndArray();
+        }
+
+
+
+        private boolean isSorted(final List<Property> pProperties)
+        {
+            Property previous = null;
+            boolean first = true;
+            for (Property property : pProperties) {
+                if (!first && CustomPropertySorter.INSTANCE.compare(previous, property) > 0) {
+                    return false;
+                }
+                previous = property;
+                first = false;
+            }
+            return true;
+        }
+
+
+
+        private void writeProperty(final Property pProperty, final boolean pTopLevel, final JsonGenerator pGen)
+            throws IOException
+        {
+            pGen.writeStartObject(pProperty);
+            if (pProperty.getName() != null) {
+                pGen.writeFieldName("name");
+                pGen.writeString(WhitespaceNormalizer.normalize(pProperty.getName(), false));
+            }
+            if (pProperty.getValue() != null) {
+                pGen.writeFieldName("value");
+                pGen.writeString(WhitespaceNormalizer.normalize(pProperty.getValue(),
+                    pTopLevel && THIRD_PARTY_NOTICES.equals(pProperty.getName())));
+            }
+            pGen.writeEndObject();
+        }
+    }
+
+
+
+    /**
+     * Writes a list of a component, sorted if the canonical form is being written.
+     *
+     * @param <T> the type of the list elements
+     */
+    private static class CanonicalListSerializer<T>
+        extends StdSerializer<Object>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Comparator<T> order;
+
+        /** the serializer assigned by CycloneDX, if any */
+        @CheckForNull
+        private final JsonSerializer<Object> delegate;
+
+
+
+        CanonicalListSerializer(final Comparator<T> pOrder, @CheckForNull final JsonSerializer<Object> pDelegate)
+        {
+            super(List.class, false);
+            order = pOrder;
+            delegate = pDelegate;
+        }
+
+
+
+        CanonicalListSerializer(final Comparator<T> pOrder)
+        {
+            this(pOrder, null);
+        }
+
+
+
+        @Override
+        public boolean isEmpty(final SerializerProvider pProvider, final Object pValue)
+        {
+            if (delegate != null) {
+                return delegate.isEmpty(pProvider, pValue);
+            }
+            return pValue == null || ((List<?>) pValue).isEmpty();
+        }
+
+
+
+        @Override
+        public void serialize(final Object pValue, final JsonGenerator pGen, final SerializerProvider pProvider)
+            throws IOException
+        {
+            @SuppressWarnings("unchecked")
+            List<T> elements = (List<T>) pValue;
+            if (isCanonical(pProvider)) {
+                elements = CanonicalOrder.sorted(elements, order);
+            }
+            if (delegate != null) {
+                delegate.serialize(elements, pGen, pProvider);
+                return;
+            }
+
+            pGen.writeStartArray();
+            for (T element : elements) {
+                if (element != null) {
+                    pProvider.defaultSerializeValue(element, pGen);
+                }
+                else {
+                    pProvider.defaultSerializeNull(pGen);
+                }
+            }
+            pGen.writeEndArray();
+        }
+    }
+
+
+
+    /**
+     * Writes an object using the serializer of CycloneDX, after bringing it into canonical form if the canonical form
+     * is being written.
+     *
+     * @param <T> the type of the object
+     */
+    private static class CanonicalFormSerializer<T>
+        extends StdSerializer<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final UnaryOperator<T> canonicalizer;
+
+        private final JsonSerializer<T> delegate;
+
+
+
+        CanonicalFormSerializer(final Class<T> pType, final UnaryOperator<T> pCanonicalizer,
+            final JsonSerializer<T> pDelegate)
+        {
+            super(pType);
+            canonicalizer = pCanonicalizer;
+            delegate = pDelegate;
+        }
+
+
+
+        @Override
+        public boolean isEmpty(final SerializerProvider pProvider, final T pValue)
+        {
+            return delegate.isEmpty(pProvider, pValue);
+        }
+
+
+
+        @Override
+        public void serialize(final T pValue, final JsonGenerator pGen, final SerializerProvider pProvider)
+            throws IOException
+        {
+            delegate.serialize(isCanonical(pProvider) ? canonicalizer.apply(pValue) : pValue, pGen, pProvider);
+        }
+    }
+
+
+
+    /**
+     * Copy of a property writer with a different serializer. Property writers do not allow their serializer to be
+     * replaced once it has been assigned.
+     */
+    private static class ReassignedPropertyWriter
+        extends BeanPropertyWriter
+    {
+        private static final long serialVersionUID = 1L;
+
+
+
+        ReassignedPropertyWriter(final BeanPropertyWriter pBase, final JsonSerializer<Object> pSerializer)
+        {
+            super(pBase);
+            _serializer = pSerializer;
+        }
+    }
+
+
+
+    private static boolean isCanonical(final SerializerProvider pProvider)
+    {
+        return Boolean.TRUE.equals(pProvider.getAttribute(CANONICAL));
+    }
+
+
+
+    private static boolean isTopLevel(final JsonGenerator pGen, final SerializerProvider pProvider)
+    {
+        final Object component = pGen.currentValue();
+        return component != null && component == pProvider.getAttribute(TOP_LEVEL_COMPONENT);
+    }
+
+
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(final SerializationConfig pConfig,
+        final BeanDescription pBeanDesc, final List<BeanPropertyWriter> pBeanProperties)
+    {
+        if (Component.class.isAssignableFrom(pBeanDesc.getBeanClass())) {
+            for (BeanPropertyWriter writer : pBeanProperties) {
+                if ("copyright".equals(writer.getName())) {
+                    writer.assignSerializer(new CopyrightSerializer());
+                }
+                else if ("properties".equals(writer.getName())) {
+                    writer.assignSerializer(new PropertiesSerializer());
+                }
+                else if ("hashes".equals(writer.getName())) {
+                    writer.assignSerializer(new CanonicalListSerializer<>(CanonicalOrder.HASHES));
+                }
+                else if ("externalReferences".equals(writer.getName())) {
+                    writer.assignSerializer(new CanonicalListSerializer<>(CanonicalOrder.EXTERNAL_REFERENCES));
+                }
+                else if ("components".equals(writer.getName())) {
+                    writer.assignSerializer(new CanonicalListSerializer<>(CanonicalOrder.COMPONENTS));
+                }
+            }
+        }
+        return pBeanProperties;
+    }
+
+
+
+    @Override
+    public BeanSerializerBuilder updateBuilder(final SerializationConfig pConfig, final BeanDescription pBeanDesc,
+        final BeanSerializerBuilder pBuilder)
+    {
+        if (Component.class.isAssignableFrom(pBeanDesc.getBeanClass())) {
+            // CycloneDX assigns its own serializer to the authors in changeProperties(), so we can only wrap it here
+            final List<BeanPropertyWriter> properties = new ArrayList<>(pBuilder.getProperties());
+            for (int i = 0; i < properties.size(); i++) {
+                final BeanPropertyWriter writer = properties.get(i);
+                if ("authors".equals(writer.getName())) {
+                    properties.set(i, new ReassignedPropertyWriter(writer,
+                        new CanonicalListSerializer<>(CanonicalOrder.CONTACTS, writer.getSerializer())));
+                }
+            }
+            pBuilder.setProperties(properties);
+        }
+        return pBuilder;
+    }
+
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> modifySerializer(final SerializationConfig pConfig, final BeanDescription pBeanDesc,
+        final JsonSerializer<?> pSerializer)
+    {
+        if (pBeanDesc.getBeanClass() == LicenseChoice.class) {
+            return new CanonicalFormSerializer<>(LicenseChoice.class, CanonicalOrder::canonical,
+                (JsonSerializer<LicenseChoice>) pSerializer);
+        }
+        if (pBeanDesc.getBeanClass() == Metadata.class) {
+            return new CanonicalFormSerializer<>(Metadata.class, CanonicalOrder::canonical,
+                (JsonSerializer<Metadata>) pSerializer);
+        }
+        return pSerializer;
+    }
+}
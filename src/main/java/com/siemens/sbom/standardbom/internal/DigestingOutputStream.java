@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.internal;
+
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+
+/**
+ * An output stream which discards everything written to it, but counts the bytes and computes their SHA-256 digest.
+ * This way, the digest of a serialized SBOM can be computed without holding the serialized form in memory.
+ */
+@NotThreadSafe
+public class DigestingOutputStream
+    extends OutputStream
+{
+    /** The digest algorithm, which every Java platform is required to support */
+    public static final String ALGORITHM = "SHA-256";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final int BITS_PER_HEX_DIGIT = 4;
+
+    private static final int HEX_DIGIT_MASK = 0x0f;
+
+    private final MessageDigest digest;
+
+    private long count = 0L;
+
+
+
+    /**
+     * Constructor.
+     */
+    public DigestingOutputStream()
+    {
+        digest = newDigest();
+    }
+
+
+
+    /**
+     * Create a new message digest for our {@link #ALGORITHM}.
+     *
+     * @return a new message digest instance
+     */
+    @Nonnull
+    public static MessageDigest newDigest()
+    {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not supported by this Java platform", e);
+        }
+    }
+
+
+
+    @Override
+    public void write(final int pByte)
+    {
+        digest.update((byte) pByte);
+        count++;
+    }
+
+
+
+    @Override
+    public void write(@Nonnull final byte[] pBytes, final int pOffset, final int pLength)
+    {
+        digest.update(pBytes, pOffset, pLength);
+        count += pLength;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the number of bytes written so far
+     */
+    public long getCount()
+    {
+        return count;
+    }
+
+
+
+    /**
+     * Complete the digest computation. The stream must not be written to anymore after calling this method.
+     *
+     * @return the digest of all bytes written
+     */
+    @Nonnull
+    public byte[] getDigest()
+    {
+        return digest.digest();
+    }
+
+
+
+    /**
+     * Complete the digest computation. The stream must not be written to anymore after calling this method.
+     *
+     * @return the digest of all bytes written, as a String of lowercase hex digits
+     */
+    @Nonnull
+    public String getHexDigest()
+    {
+        final byte[] bytes = getDigest();
+        final char[] result = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            result[2 * i] = HEX_DIGITS[(bytes[i] >> BITS_PER_HEX_DIGIT) & HEX_DIGIT_MASK];
+            result[2 * i + 1] = HEX_DIGITS[bytes[i] & HEX_DIGIT_MASK];
+        }
+        return new String(result);
+    }
+}
@@ -4,8 +4,11 @@
  */
 package com.siemens.sbom.standardbom.internal;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.annotation.CheckForNull;
@@ -19,13 +22,88 @@ import com.siemens.sbom.standardbom.model.StandardBom;
 
 /**
  * Helper class which processes custom properties in a CycloneDX Component.
+ * <p>Lookups use an index of the property list, which is built on first access and kept in sync by {@link #set}.
+ * Changes made directly to the property list are detected by its identity, its size, and its last element, which is
+ * a constant effort. A property which is renamed in place is no longer found by its old name, but it is not found by
+ * its new name either, and neither is a property which replaces another one in the middle of the list without
+ * changing its size. Such changes are not supported; use {@link #set} instead.</p>
  */
 public class PropertyProcessor
 {
+    /** Upper bound for the number of cached namespaced keys, in case someone uses dynamic keys */
+    private static final int MAX_CACHED_KEYS = 256;
+
+    /** Namespaced keys by their plain key, so that we don't need to concatenate Strings on every access */
+    private static final Map<String, String> NAMESPACED_KEYS = new ConcurrentHashMap<>();
+
     private final Supplier<List<Property>> propertySupplier;
 
     private final Consumer<Property> propertyAdder;
 
+    private volatile PropertyIndex index = null;
+
+
+
+    /**
+     * Maps property names to the first property of that name. Instances are only modified by {@link #set}, which
+     * like any modification of the property list requires exclusive access, so that concurrent readers are safe.
+     */
+    private static final class PropertyIndex
+    {
+        private final List<Property> source;
+
+        /** the size of the source list when the index was last updated */
+        private int size;
+
+        /** the last element of the source list when the index was last updated */
+        @CheckForNull
+        private Property last;
+
+        private final Map<String, Property> byName;
+
+
+
+        PropertyIndex(@Nonnull final List<Property> pSource)
+        {
+            source = pSource;
+            byName = new HashMap<>();
+            for (Property property : pSource) {
+                if (property != null && property.getName() != null) {
+                    byName.putIfAbsent(property.getName(), property);
+                }
+            }
+            update();
+        }
+
+
+
+        /**
+         * Remember the current size and last element of the source list after it was changed via the index.
+         */
+        void update()
+        {
+            size = source.size();
+            last = size > 0 ? source.get(size - 1) : null;
+        }
+
+
+
+        /**
+         * Determine if this index still reflects the given list. This takes constant time, so changes in the middle of
+         * the list which do not change its size are not detected.
+         *
+         * @param pList the current property list
+         * @return <code>true</code> if the index is up-to-date as far as can be told
+         */
+        boolean isValidFor(@Nonnull final List<Property> pList)
+        {
+            if (pList != source || pList.size() != size) {
+                return false;
+            }
+            return size == 0 || pList.get(size - 1) == last;
+        }
+    }
+
 
 
     public PropertyProcessor(@Nonnull final Supplier<List<Property>> pPropertySupplier,
@@ -40,7 +118,43 @@ public class PropertyProcessor
     @CheckForNull
     public String get(@Nonnull final String pKey)
     {
-        return ListProcessor.PROPERTY.first(propertySupplier.get(), namespacedKey(pKey));
+        final Property property = find(propertySupplier.get(), namespacedKey(pKey));
+        return property != null ? property.getValue() : null;
+    }
+
+
+
+    @CheckForNull
+    private PropertyIndex indexOf(@Nullable final List<Property> pList)
+    {
+        if (pList == null) {
+            return null;
+        }
+        PropertyIndex result = index;
+        if (result == null || !result.isValidFor(pList)) {
+            result = new PropertyIndex(pList);
+            index = result;
+        }
+        return result;
+    }
+
+
+
+    @CheckForNull
+    private Property find(@Nullable final List<Property> pList, @Nonnull final String pNamespacedKey)
+    {
+        PropertyIndex idx = indexOf(pList);
+        if (idx == null) {
+            return null;
+        }
+        Property result = idx.byName.get(pNamespacedKey);
+        if (result != null && !pNamespacedKey.equals(result.getName())) {
+            // the property was renamed since the index was built
+            idx = new PropertyIndex(idx.source);
+            index = idx;
+            result = idx.byName.get(pNamespacedKey);
+        }
+        return result;
     }
 
 
@@ -48,13 +162,26 @@ public class PropertyProcessor
     public void set(@Nonnull final String pKey, @Nullable final String pValue)
     {
         final String key = namespacedKey(pKey);
-        ListProcessor.PROPERTY.removeAll(propertySupplier.get(), key);
+        if (find(propertySupplier.get(), key) != null) {
+            final PropertyIndex idx = index;   // not null, because it was just used to find the property
+            ListProcessor.PROPERTY.removeAll(idx.source, key);
+            idx.byName.remove(key);
+            idx.update();
+        }
 
         if (pValue != null && !pValue.trim().isEmpty()) {
             final Property prop = new Property();
             prop.setName(key);
             prop.setValue(pValue.trim());
             propertyAdder.accept(prop);
+            final PropertyIndex current = index;
+            if (current != null && current.source == propertySupplier.get()) {
+                current.byName.putIfAbsent(key, prop);
+                current.update();
+            }
+            else {
+                index = null;   // the list was created by adding, so the next access indexes it
+            }
         }
     }
 
@@ -63,9 +190,15 @@ public class PropertyProcessor
     @Nonnull
     private String namespacedKey(@Nonnull final String pKey)
     {
-        String result = pKey;
-        if (!pKey.contains(":")) {
-            result = StandardBom.CUSTOM_PROPERTY_NAMESPACE + ":" + pKey;
+        String result = NAMESPACED_KEYS.get(pKey);
+        if (result == null) {
+            result = pKey;
+            if (!pKey.contains(":")) {
+                result = StandardBom.CUSTOM_PROPERTY_NAMESPACE + ":" + pKey;
+            }
+            if (NAMESPACED_KEYS.size() < MAX_CACHED_KEYS) {
+                NAMESPACED_KEYS.putIfAbsent(pKey, result.intern());
+            }
         }
         return result;
     }
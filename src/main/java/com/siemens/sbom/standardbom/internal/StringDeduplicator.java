@@ -0,0 +1,206 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.internal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.ExternalReference;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.License;
+import org.cyclonedx.model.OrganizationalContact;
+import org.cyclonedx.model.Property;
+
+
+/**
+ * Replaces equal Strings in a freshly parsed CycloneDX BOM by a single shared instance. Large SBOMs contain the same
+ * property names and values, license IDs, groups, hash algorithm names, and dependency references many thousands of
+ * times, but the JSON parser creates a new String for each occurrence.
+ * <p>The pool is local to one instance, so unlike {@link String#intern()}, nothing is retained once the SBOM is
+ * gone. Values which are practically always unique, such as hash values, are not pooled.</p>
+ */
+@NotThreadSafe
+public class StringDeduplicator
+{
+    private final Map<String, String> pool = new HashMap<>();
+
+    private long replaced = 0L;
+
+
+
+    /**
+     * Return the pooled instance of the given String.
+     *
+     * @param pValue a String value
+     * @return an instance equal to the given value, which is the first such instance passed to this method
+     */
+    @CheckForNull
+    public String deduplicate(@Nullable final String pValue)
+    {
+        if (pValue == null) {
+            return null;
+        }
+        final String result = pool.putIfAbsent(pValue, pValue);
+        if (result != null) {
+            replaced++;
+            return result;
+        }
+        return pValue;
+    }
+
+
+
+    /**
+     * Deduplicate the Strings of the metadata component, the components, external references, and dependencies of the
+     * given BOM in place.
+     *
+     * @param pBom the BOM to process
+     */
+    public void deduplicateBom(@Nonnull final Bom pBom)
+    {
+        if (pBom.getMetadata() != null && pBom.getMetadata().getComponent() != null) {
+            deduplicateComponent(pBom.getMetadata().getComponent());
+        }
+        deduplicateComponents(pBom.getComponents());
+        deduplicateExternalReferences(pBom.getExternalReferences());
+        deduplicateDependencies(pBom.getDependencies());
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the number of Strings which were replaced by a pooled instance so far
+     */
+    public long getReplaced()
+    {
+        return replaced;
+    }
+
+
+
+    private void deduplicateComponents(@Nullable final List<Component> pComponents)
+    {
+        if (pComponents == null) {
+            return;
+        }
+        for (Component component : pComponents) {
+            if (component != null) {
+                deduplicateComponent(component);
+            }
+        }
+    }
+
+
+
+    private void deduplicateComponent(@Nonnull final Component pComponent)
+    {
+        pComponent.setBomRef(deduplicate(pComponent.getBomRef()));
+        pComponent.setGroup(deduplicate(pComponent.getGroup()));
+        pComponent.setName(deduplicate(pComponent.getName()));
+        pComponent.setVersion(deduplicate(pComponent.getVersion()));
+        pComponent.setPurl(deduplicate(pComponent.getPurl()));
+        pComponent.setDescription(deduplicate(pComponent.getDescription()));
+        pComponent.setCopyright(deduplicate(pComponent.getCopyright()));
+        pComponent.setPublisher(deduplicate(pComponent.getPublisher()));
+        pComponent.setCpe(deduplicate(pComponent.getCpe()));
+
+        if (pComponent.getAuthors() != null) {
+            for (OrganizationalContact author : pComponent.getAuthors()) {
+                if (author != null) {
+                    author.setName(deduplicate(author.getName()));
+                    author.setEmail(deduplicate(author.getEmail()));
+                }
+            }
+        }
+        if (pComponent.getLicenses() != null && pComponent.getLicenses().getLicenses() != null) {
+            for (License license : pComponent.getLicenses().getLicenses()) {
+                if (license != null) {
+                    license.setId(deduplicate(license.getId()));
+                    license.setName(deduplicate(license.getName()));
+                    license.setUrl(deduplicate(license.getUrl()));
+                }
+            }
+        }
+        if (pComponent.getProperties() != null) {
+            for (Property property : pComponent.getProperties()) {
+                if (property != null) {
+                    property.setName(deduplicate(property.getName()));
+                    property.setValue(deduplicate(property.getValue()));
+                }
+            }
+        }
+        deduplicateHashes(pComponent.getHashes());
+        deduplicateExternalReferences(pComponent.getExternalReferences());
+        deduplicateComponents(pComponent.getComponents());
+    }
+
+
+
+    private void deduplicateExternalReferences(@Nullable final List<ExternalReference> pExtRefs)
+    {
+        if (pExtRefs == null) {
+            return;
+        }
+        for (ExternalReference extRef : pExtRefs) {
+            if (extRef != null) {
+                extRef.setUrl(deduplicate(extRef.getUrl()));
+                extRef.setComment(deduplicate(extRef.getComment()));
+                deduplicateHashes(extRef.getHashes());
+            }
+        }
+    }
+
+
+
+    private void deduplicateHashes(@Nullable final List<Hash> pHashes)
+    {
+        if (pHashes == null) {
+            return;
+        }
+        for (ListIterator<Hash> iter = pHashes.listIterator(); iter.hasNext();) {
+            final Hash hash = iter.next();
+            if (hash != null && hash.getAlgorithm() != null) {
+                final String algorithm = deduplicate(hash.getAlgorithm());
+                if (algorithm != hash.getAlgorithm()) {
+                    // Hash has no setters
+                    iter.set(new Hash(algorithm, hash.getValue()));
+                }
+            }
+        }
+    }
+
+
+
+    private void deduplicateDependencies(@Nullable final List<Dependency> pDependencies)
+    {
+        if (pDependencies == null) {
+            return;
+        }
+        for (ListIterator<Dependency> iter = pDependencies.listIterator(); iter.hasNext();) {
+            final Dependency dependency = iter.next();
+            if (dependency != null) {
+                deduplicateDependencies(dependency.getDependencies());
+                final String ref = deduplicate(dependency.getRef());
+                if (ref != dependency.getRef()) {
+                    // Dependency has no setter for its ref
+                    final Dependency replacement = new Dependency(ref);
+                    replacement.setDependencies(dependency.getDependencies());
+                    iter.set(replacement);
+                }
+            }
+        }
+    }
+}
@@ -6,19 +6,13 @@ package com.siemens.sbom.standardbom.internal;
 
 import java.io.IOException;
 import java.io.StringReader;
-import java.io.StringWriter;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.Enumeration;
-import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -29,6 +23,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A helper class which allows serializing a {@code Map<String, String>} into a String.
+ * <p>The format is that of {@link Properties#store(java.io.Writer, String) java.util.Properties}, without the comment
+ * lines, and with the keys sorted. The decoded map is cached, and only decoded again when the String changes.</p>
  */
 public class StringMapProcessor
 {
@@ -38,32 +34,27 @@ public class StringMapProcessor
 
     private final Consumer<String> stringChange;
 
+    private volatile DecodedMap decoded = null;
+
 
 
     /**
-     * Keys are always sorted for easier comparison of test data.
+     * A String together with the map decoded from it. Instances never change once created, so they can be shared
+     * between threads.
      */
-    private static class SortedProperties
-        extends Properties
+    private static final class DecodedMap
     {
-        @Nonnull
-        @Override
-        public synchronized Enumeration<Object> keys()
-        {
-            List<Object> keyList = Collections.list(super.keys());
-            keyList.sort(Comparator.comparing(Object::toString));
-            return Collections.enumeration(keyList);
-        }
+        @CheckForNull
+        private final String source;
+
+        private final Map<String, String> values;
 
 
 
-        @Nonnull
-        @Override
-        public Set<Map.Entry<Object, Object>> entrySet()
+        DecodedMap(@Nullable final String pSource, @Nonnull final Map<String, String> pValues)
         {
-            return Collections.synchronizedSet(super.entrySet().stream()
-                .sorted(Comparator.comparing(e -> e.getKey().toString()))
-                .collect(Collectors.toCollection(LinkedHashSet::new)));
+            source = pSource;
+            values = Collections.unmodifiableMap(pValues);
         }
     }
 
@@ -79,42 +70,114 @@ public class StringMapProcessor
 
 
     @Nonnull
-    private Properties loadProps()
+    private Map<String, String> getValues()
     {
-        final Properties props = new SortedProperties();
-        if (stringSupplier.get() != null) {
-            try (StringReader sr = new StringReader(stringSupplier.get())) {
+        final String serialized = stringSupplier.get();
+        DecodedMap result = decoded;
+        if (result == null || !Objects.equals(result.source, serialized)) {
+            result = new DecodedMap(serialized, decode(serialized));
+            decoded = result;
+        }
+        return result.values;
+    }
+
+
+
+    @Nonnull
+    private static TreeMap<String, String> decode(@Nullable final String pSerialized)
+    {
+        final TreeMap<String, String> result = new TreeMap<>();
+        if (pSerialized != null) {
+            final Properties props = new Properties();
+            try (StringReader sr = new StringReader(pSerialized)) {
                 props.load(sr);
             }
             catch (IOException | RuntimeException e) {
-                LOG.warn("Comment is not recognized as encoded by standard-bom: " + stringSupplier.get());
+                LOG.warn("Comment is not recognized as encoded by standard-bom: " + pSerialized);
+            }
+            for (String key : props.stringPropertyNames()) {
+                result.put(key, props.getProperty(key));
             }
         }
-        return props;
+        return result;
     }
 
 
 
+    /**
+     * Serialize the given map. The result is the same as what {@link Properties#store(java.io.Writer, String)} would
+     * write, minus the comment lines, with the keys sorted, and with the lines separated by <code>\n</code>.
+     *
+     * @param pValues the map to serialize, sorted by key
+     * @return the serialized map, or <code>null</code> if the map is empty
+     */
     @CheckForNull
-    private String serializeProps(@Nonnull final Properties pProps)
+    static String encode(@Nonnull final Map<String, String> pValues)
     {
-        if (pProps.isEmpty()) {
+        if (pValues.isEmpty()) {
             return null;
         }
-
-        StringWriter sw = new StringWriter();
-        try {
-            pProps.store(sw, null);
-        }
-        catch (IOException | RuntimeException e) {
-            throw new IllegalArgumentException("value fails to serialize", e);
+        final StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> entry : pValues.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append('\n');
+            }
+            escape(sb, entry.getKey(), true);
+            sb.append('=');
+            escape(sb, entry.getValue(), false);
         }
-        String s = sw.toString();
-        s = s.substring(s.indexOf('\n') + 1).replaceAll("\r", "");
-        if (s.endsWith("\n")) {
-            s = s.substring(0, s.length() - 1);
+        return sb.toString();
+    }
+
+
+
+    /**
+     * Escape a key or value like {@link Properties} does when writing to a {@link java.io.Writer}, i.e. without
+     * escaping non-ASCII characters.
+     *
+     * @param pSb the StringBuilder to append to
+     * @param pValue the key or value to escape
+     * @param pEscapeSpace <code>true</code> to escape all spaces (for keys); <code>false</code> to escape only a
+     * leading space (for values)
+     */
+    private static void escape(@Nonnull final StringBuilder pSb, @Nonnull final String pValue,
+        final boolean pEscapeSpace)
+    {
+        for (int i = 0; i < pValue.length(); i++) {
+            final char c = pValue.charAt(i);
+            switch (c) {
+                case '\\':
+                    pSb.append("\\\\");
+                    break;
+                case ' ':
+                    if (i == 0 || pEscapeSpace) {
+                        pSb.append('\\');
+                    }
+                    pSb.append(' ');
+                    break;
+                case '\t':
+                    pSb.append("\\t");
+                    break;
+                case '\n':
+                    pSb.append("\\n");
+                    break;
+                case '\r':
+                    pSb.append("\\r");
+                    break;
+                case '\f':
+                    pSb.append("\\f");
+                    break;
+                case '=':
+                case ':':
+                case '#':
+                case '!':
+                    pSb.append('\\').append(c);
+                    break;
+                default:
+                    pSb.append(c);
+                    break;
+            }
         }
-        return s;
     }
 
 
@@ -122,19 +185,20 @@ public class StringMapProcessor
     @CheckForNull
     public String get(@Nonnull final String pKey)
     {
-        final Properties props = loadProps();
-        return props.getProperty(pKey);
+        return getValues().get(pKey);
     }
 
 
 
     public void set(@Nonnull final String pKey, @Nullable final String pValue)
     {
-        final Properties props = loadProps();
-        props.remove(pKey);
+        final Map<String, String> values = new TreeMap<>(getValues());
+        values.remove(pKey);
         if (pValue != null && !pValue.trim().isEmpty()) {
-            props.setProperty(pKey, pValue.trim());
+            values.put(pKey, pValue.trim());
         }
-        stringChange.accept(serializeProps(props));
+        final String serialized = encode(values);
+        decoded = new DecodedMap(serialized, values);
+        stringChange.accept(serialized);
     }
 }
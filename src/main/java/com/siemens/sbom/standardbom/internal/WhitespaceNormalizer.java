@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.internal;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * Normalizes whitespace in String values the same way as the CycloneDX JSON serializer does. Optionally, line breaks
+ * can be kept, which is needed for copyright statements and third-party notices.
+ */
+public final class WhitespaceNormalizer
+{
+    private WhitespaceNormalizer()
+    {
+        // utility class
+    }
+
+
+
+    /**
+     * Trim the given String, replace tabs and line breaks with spaces, and collapse sequences of spaces into a single
+     * space.
+     *
+     * @param pValue the value to normalize
+     * @param pKeepLineBreaks if <code>true</code>, line breaks (<code>\n</code> or <code>\r\n</code>) are not
+     * replaced, but converted into a single <code>\n</code>. They are not affected by trimming, either.
+     * @return the normalized value
+     */
+    @Nonnull
+    public static String normalize(@Nonnull final String pValue, final boolean pKeepLineBreaks)
+    {
+        int start = 0;
+        int end = pValue.length();
+        while (start < end && pValue.charAt(start) <= ' ' && !isLineBreak(pValue, start, pKeepLineBreaks)) {
+            start++;
+        }
+        while (end > start && pValue.charAt(end - 1) <= ' '
+            && !(pKeepLineBreaks && pValue.charAt(end - 1) == '\n'))
+        {
+            end--;
+        }
+
+        final StringBuilder sb = new StringBuilder(end - start);
+        boolean previousSpace = false;
+        for (int i = start; i < end; i++) {
+            final char c = pValue.charAt(i);
+            if (isLineBreak(pValue, i, pKeepLineBreaks)) {
+                if (c == '\r') {
+                    i++;
+                }
+                sb.append('\n');
+                previousSpace = false;
+            }
+            else if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                if (!previousSpace) {
+                    sb.append(' ');
+                }
+                previousSpace = true;
+            }
+            else {
+                sb.append(c);
+                previousSpace = false;
+            }
+        }
+        return sb.toString();
+    }
+
+
+
+    private static boolean isLineBreak(@Nonnull final String pValue, final int pPos, final boolean pKeepLineBreaks)
+    {
+        final char c = pValue.charAt(pPos);
+        return pKeepLineBreaks
+            && (c == '\n' || (c == '\r' && pPos + 1 < pValue.length() && pValue.charAt(pPos + 1) == '\n'));
+    }
+}
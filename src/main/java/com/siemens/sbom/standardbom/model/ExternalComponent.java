@@ -56,8 +56,12 @@ public class ExternalComponent
     public ExternalComponent(@Nonnull final ExternalReference pCycloneDxRef)
     {
         cycloneDxRef = Objects.requireNonNull(pCycloneDxRef, "CycloneDX delegate was null");
-        cycloneDxRef.setType(ExternalReference.Type.OTHER);
-        cycloneDxRef.setUrl(UNKNOWN_PURL);
+        if (cycloneDxRef.getType() == null) {
+            cycloneDxRef.setType(ExternalReference.Type.OTHER);
+        }
+        if (cycloneDxRef.getUrl() == null) {
+            cycloneDxRef.setUrl(UNKNOWN_PURL);
+        }
         stringMapProc = new StringMapProcessor(cycloneDxRef::getComment, cycloneDxRef::setComment);
     }
 
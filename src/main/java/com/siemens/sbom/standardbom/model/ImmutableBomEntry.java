@@ -0,0 +1,507 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.License;
+import org.cyclonedx.model.LicenseChoice;
+import org.cyclonedx.model.OrganizationalContact;
+import org.cyclonedx.model.Property;
+
+
+/**
+ * A read-only snapshot of a {@link BomEntry}. All values are copied when the snapshot is created, so its getters never
+ * modify anything, and instances can be shared between threads without synchronization.
+ * <p>The snapshot holds the fields which queries typically need, not the complete component. In particular, it does
+ * not include:</p>
+ * <ul>
+ * <li>the email addresses and phone numbers of the authors, only their names,</li>
+ * <li>the URLs and texts of the licenses, only their SPDX license IDs or names,</li>
+ * <li>nested components,</li>
+ * <li>external references other than the website, the VCS, the relative path, and the sources,</li>
+ * <li>supplier, manufacturer, pedigree, evidence, and other fields which the Standard BOM does not use.</li>
+ * </ul>
+ * <p>Use the mutable {@link BomEntry} if any of these are needed.</p>
+ *
+ * @see StandardBom#freeze()
+ */
+@Immutable
+public final class ImmutableBomEntry
+{
+    private static final String PRIMARY_LANGUAGE =
+        StandardBom.CUSTOM_PROPERTY_NAMESPACE + ":" + CustomProperty.PRIMARY_LANGUAGE;
+
+    private static final String DIRECT_DEPENDENCY =
+        StandardBom.CUSTOM_PROPERTY_NAMESPACE + ":" + CustomProperty.DIRECT_DEPENDENCY;
+
+    private static final String LEGAL_REMARK =
+        StandardBom.CUSTOM_PROPERTY_NAMESPACE + ":" + CustomProperty.LEGAL_REMARK;
+
+    private static final String FILENAME =
+        StandardBom.CUSTOM_PROPERTY_NAMESPACE + ":" + CustomProperty.FILENAME;
+
+    private static final String INTERNAL =
+        StandardBom.CUSTOM_PROPERTY_NAMESPACE + ":" + CustomProperty.INTERNAL;
+
+    private static final String THIRD_PARTY_NOTICES =
+        StandardBom.CUSTOM_PROPERTY_NAMESPACE + ":" + CustomProperty.THIRD_PARTY_NOTICES;
+
+    @CheckForNull
+    private final String bomRef;
+
+    @CheckForNull
+    private final Component.Type type;
+
+    @CheckForNull
+    private final String group;
+
+    @CheckForNull
+    private final String name;
+
+    @CheckForNull
+    private final String version;
+
+    @CheckForNull
+    private final String purl;
+
+    @CheckForNull
+    private final String description;
+
+    @CheckForNull
+    private final String copyright;
+
+    @CheckForNull
+    private final String cpe;
+
+    @CheckForNull
+    private final Component.Scope scope;
+
+    @CheckForNull
+    private final String website;
+
+    @CheckForNull
+    private final String repoUrl;
+
+    @CheckForNull
+    private final String relativePath;
+
+    @CheckForNull
+    private final String licenseExpression;
+
+    private final List<String> authors;
+
+    private final List<String> licenses;
+
+    private final Set<String> sourceArchives;
+
+    private final Set<String> sourceDownloadUrls;
+
+    /** hash values by algorithm name, as in {@link Hash.Algorithm#getSpec()} */
+    private final Map<String, String> hashes;
+
+    /** property values by their full name, such as <code>siemens:primaryLanguage</code> */
+    private final Map<String, String> properties;
+
+
+
+    /**
+     * Constructor.
+     *
+     * @param pEntry the component to take the snapshot of. It is only read, and it is not referenced by the snapshot.
+     */
+    public ImmutableBomEntry(@Nonnull final BomEntry pEntry)
+    {
+        final Component component = pEntry.getCycloneDxComponent();
+        bomRef = component.getBomRef();
+        type = component.getType();
+        group = component.getGroup();
+        name = component.getName();
+        version = component.getVersion();
+        purl = component.getPurl();
+        description = component.getDescription();
+        copyright = component.getCopyright();
+        cpe = component.getCpe();
+        scope = component.getScope();
+        website = pEntry.getWebsite();
+        repoUrl = pEntry.getRepoUrl();
+        relativePath = pEntry.getRelativePath();
+        authors = copyAuthors(component.getAuthors());
+
+        final LicenseChoice licenseChoice = component.getLicenses();
+        licenses = licenseChoice != null ? copyLicenses(licenseChoice.getLicenses()) : Collections.emptyList();
+        licenseExpression = licenseChoice != null && licenseChoice.getExpression() != null
+            ? licenseChoice.getExpression().getValue() : null;
+
+        sourceArchives = copySet(pEntry.getSourceArchives());
+        sourceDownloadUrls = copySet(pEntry.getSourceDownloadUrls());
+        hashes = copyHashes(component.getHashes());
+        properties = copyProperties(component.getProperties());
+    }
+
+
+
+    @Nonnull
+    static List<String> copyAuthors(@Nullable final List<OrganizationalContact> pAuthors)
+    {
+        if (pAuthors == null || pAuthors.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<String> result = new ArrayList<>(pAuthors.size());
+        for (OrganizationalContact author : pAuthors) {
+            if (author != null && author.getName() != null) {
+                result.add(author.getName());
+            }
+        }
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+
+
+
+    @Nonnull
+    static List<String> copyLicenses(@Nullable final List<License> pLicenses)
+    {
+        if (pLicenses == null || pLicenses.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<String> result = new ArrayList<>(pLicenses.size());
+        for (License license : pLicenses) {
+            if (license != null) {
+                final String value = license.getId() != null ? license.getId() : license.getName();
+                if (value != null) {
+                    result.add(value);
+                }
+            }
+        }
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+
+
+
+    @Nonnull
+    private static Map<String, String> copyHashes(@Nullable final List<Hash> pHashes)
+    {
+        if (pHashes == null || pHashes.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> result = new LinkedHashMap<>();
+        for (Hash hash : pHashes) {
+            if (hash != null && hash.getAlgorithm() != null && hash.getValue() != null) {
+                result.putIfAbsent(hash.getAlgorithm(), hash.getValue());
+            }
+        }
+        return result.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(result);
+    }
+
+
+
+    @Nonnull
+    static Map<String, String> copyProperties(@Nullable final List<Property> pProperties)
+    {
+        if (pProperties == null || pProperties.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> result = new LinkedHashMap<>();
+        for (Property property : pProperties) {
+            if (property != null && property.getName() != null && property.getValue() != null) {
+                result.putIfAbsent(property.getName(), property.getValue());
+            }
+        }
+        return result.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(result);
+    }
+
+
+
+    @Nonnull
+    private static Set<String> copySet(@Nonnull final Set<String> pValues)
+    {
+        if (pValues.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(new LinkedHashSet<>(pValues));
+    }
+
+
+
+    @CheckForNull
+    private Boolean getBooleanProperty(@Nonnull final String pName)
+    {
+        final String value = properties.get(pName);
+        return value != null ? Boolean.valueOf(value) : null;
+    }
+
+
+
+    @CheckForNull
+    public String getBomRef()
+    {
+        return bomRef;
+    }
+
+
+
+    @CheckForNull
+    public Component.Type getType()
+    {
+        return type;
+    }
+
+
+
+    @CheckForNull
+    public String getGroup()
+    {
+        return group;
+    }
+
+
+
+    @CheckForNull
+    public String getName()
+    {
+        return name;
+    }
+
+
+
+    @CheckForNull
+    public String getVersion()
+    {
+        return version;
+    }
+
+
+
+    @CheckForNull
+    public String getPurl()
+    {
+        return purl;
+    }
+
+
+
+    @CheckForNull
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+
+    @CheckForNull
+    public String getCopyright()
+    {
+        return copyright;
+    }
+
+
+
+    @CheckForNull
+    public String getCpe()
+    {
+        return cpe;
+    }
+
+
+
+    @CheckForNull
+    public Component.Scope getScope()
+    {
+        return scope;
+    }
+
+
+
+    @CheckForNull
+    public String getWebsite()
+    {
+        return website;
+    }
+
+
+
+    @CheckForNull
+    public String getRepoUrl()
+    {
+        return repoUrl;
+    }
+
+
+
+    @CheckForNull
+    public String getRelativePath()
+    {
+        return relativePath;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the names of the authors of this component, which may be empty
+     */
+    @Nonnull
+    public List<String> getAuthors()
+    {
+        return authors;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the SPDX license IDs of the licenses of this component, or their names if they have no ID
+     */
+    @Nonnull
+    public List<String> getLicenses()
+    {
+        return licenses;
+    }
+
+
+
+    @CheckForNull
+    public String getLicenseExpression()
+    {
+        return licenseExpression;
+    }
+
+
+
+    @Nonnull
+    public Set<String> getSourceArchives()
+    {
+        return sourceArchives;
+    }
+
+
+
+    @Nonnull
+    public Set<String> getSourceDownloadUrls()
+    {
+        return sourceDownloadUrls;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the hash values of this component by algorithm name, for example <code>SHA-256</code>
+     */
+    @Nonnull
+    public Map<String, String> getHashes()
+    {
+        return hashes;
+    }
+
+
+
+    @CheckForNull
+    public String getMd5()
+    {
+        return hashes.get(Hash.Algorithm.MD5.getSpec());
+    }
+
+
+
+    @CheckForNull
+    public String getSha1()
+    {
+        return hashes.get(Hash.Algorithm.SHA1.getSpec());
+    }
+
+
+
+    @CheckForNull
+    public String getSha256()
+    {
+        return hashes.get(Hash.Algorithm.SHA_256.getSpec());
+    }
+
+
+
+    @CheckForNull
+    public String getSha512()
+    {
+        return hashes.get(Hash.Algorithm.SHA_512.getSpec());
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the values of all properties of this component by their full name, for example
+     * <code>siemens:primaryLanguage</code>. If a name occurs more than once, the first value is used.
+     */
+    @Nonnull
+    public Map<String, String> getProperties()
+    {
+        return properties;
+    }
+
+
+
+    @CheckForNull
+    public String getPrimaryLanguage()
+    {
+        return properties.get(PRIMARY_LANGUAGE);
+    }
+
+
+
+    @CheckForNull
+    public Boolean isDirectDependency()
+    {
+        return getBooleanProperty(DIRECT_DEPENDENCY);
+    }
+
+
+
+    @CheckForNull
+    public String getLegalRemark()
+    {
+        return properties.get(LEGAL_REMARK);
+    }
+
+
+
+    @CheckForNull
+    public String getFilename()
+    {
+        return properties.get(FILENAME);
+    }
+
+
+
+    @CheckForNull
+    public Boolean isInternal()
+    {
+        return getBooleanProperty(INTERNAL);
+    }
+
+
+
+    @CheckForNull
+    public String getThirdPartyNotices()
+    {
+        return properties.get(THIRD_PARTY_NOTICES);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.model;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import org.cyclonedx.model.Component;
+
+
+/**
+ * A read-only snapshot of an {@link ExternalComponent}, which can be shared between threads without synchronization.
+ *
+ * @see StandardBom#freeze()
+ */
+@Immutable
+public final class ImmutableExternalComponent
+{
+    @CheckForNull
+    private final String url;
+
+    @CheckForNull
+    private final String externalId;
+
+    @CheckForNull
+    private final Component.Type type;
+
+    @CheckForNull
+    private final String description;
+
+    @CheckForNull
+    private final String legalRemark;
+
+
+
+    /**
+     * Constructor.
+     *
+     * @param pExternalComponent the external component to take the snapshot of
+     */
+    public ImmutableExternalComponent(@Nonnull final ExternalComponent pExternalComponent)
+    {
+        url = pExternalComponent.getUrl();
+        externalId = pExternalComponent.getExternalId();
+        type = pExternalComponent.getType();
+        description = pExternalComponent.getDescription();
+        legalRemark = pExternalComponent.getLegalRemark();
+    }
+
+
+
+    @CheckForNull
+    public String getUrl()
+    {
+        return url;
+    }
+
+
+
+    @CheckForNull
+    public String getExternalId()
+    {
+        return externalId;
+    }
+
+
+
+    @CheckForNull
+    public Component.Type getType()
+    {
+        return type;
+    }
+
+
+
+    @CheckForNull
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+
+    @CheckForNull
+    public String getLegalRemark()
+    {
+        return legalRemark;
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.LicenseChoice;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.Property;
+
+
+/**
+ * A read-only snapshot of a {@link StandardBom}, created by {@link StandardBom#freeze()}.
+ * <p>All values are copied and all lookup indexes are built when the snapshot is created. Its getters never modify
+ * anything, so it can be shared between any number of threads without synchronization, for example in a cache.
+ * Changes to the original SBOM do not affect the snapshot.</p>
+ * <p>Of the metadata, the snapshot holds the timestamp, the authors, the supplier, the licenses, the tools, the
+ * component, and the properties. The limitations of {@link ImmutableBomEntry} apply to the component and the tools.
+ * Tools given in the legacy format of CycloneDX 1.4 are not included.</p>
+ */
+@Immutable
+public final class ImmutableStandardBom
+{
+    private static final String PROFILE = StandardBom.CUSTOM_PROPERTY_NAMESPACE + ":" + CustomProperty.PROFILE;
+
+    private static final String SBOM_NATURE = StandardBom.CUSTOM_PROPERTY_NAMESPACE + ":" + CustomProperty.SBOM_NATURE;
+
+    private final long timestamp;
+
+    @CheckForNull
+    private final String serialNumber;
+
+    @CheckForNull
+    private final String profile;
+
+    @CheckForNull
+    private final SbomNature sbomNature;
+
+    @CheckForNull
+    private final String standardBomVersion;
+
+    @CheckForNull
+    private final ImmutableBomEntry metadataComponent;
+
+    private final List<String> authors;
+
+    @CheckForNull
+    private final String supplier;
+
+    private final List<String> licenses;
+
+    @CheckForNull
+    private final String licenseExpression;
+
+    private final List<ImmutableBomEntry> tools;
+
+    /** metadata property values by their full name, such as <code>siemens:profile</code> */
+    private final Map<String, String> properties;
+
+    private final List<ImmutableBomEntry> components;
+
+    private final Map<String, ImmutableBomEntry> byBomRef;
+
+    private final Map<String, ImmutableBomEntry> byPurl;
+
+    private final List<ImmutableExternalComponent> externalComponents;
+
+    /** the bom-refs each component depends on, by the bom-ref of the component */
+    private final Map<String, List<String>> dependencies;
+
+
+
+    ImmutableStandardBom(@Nonnull final StandardBom pBom)
+    {
+        final Metadata metadata = pBom.getCycloneDxBom().getMetadata();
+        timestamp = metadata != null && metadata.getTimestamp() != null ? metadata.getTimestamp().getTime() : 0L;
+        serialNumber = pBom.getSerialNumber();
+        profile = metadata != null ? findProperty(metadata.getProperties(), PROFILE) : null;
+        sbomNature = metadata != null ? SbomNature.parseNature(findProperty(metadata.getProperties(), SBOM_NATURE))
+            : null;
+        standardBomVersion = pBom.getStandardBomVersion();
+        metadataComponent = metadata != null && metadata.getComponent() != null
+            ? new ImmutableBomEntry(new BomEntry(metadata.getComponent())) : null;
+        authors = metadata != null ? ImmutableBomEntry.copyAuthors(metadata.getAuthors()) : Collections.emptyList();
+        supplier = metadata != null && metadata.getSupplier() != null ? metadata.getSupplier().getName() : null;
+        final LicenseChoice licenseChoice = metadata != null ? metadata.getLicenses() : null;
+        licenses = licenseChoice != null ? ImmutableBomEntry.copyLicenses(licenseChoice.getLicenses())
+            : Collections.emptyList();
+        licenseExpression = licenseChoice != null && licenseChoice.getExpression() != null
+            ? licenseChoice.getExpression().getValue() : null;
+        tools = copyTools(metadata);
+        properties = metadata != null ? ImmutableBomEntry.copyProperties(metadata.getProperties())
+            : Collections.emptyMap();
+
+        final List<BomEntry> entries = pBom.getComponents();
+        final List<ImmutableBomEntry> componentList = new ArrayList<>(entries.size());
+        final Map<String, ImmutableBomEntry> bomRefMap = new HashMap<>();
+        final Map<String, ImmutableBomEntry> purlMap = new HashMap<>();
+        for (BomEntry entry : entries) {
+            final ImmutableBomEntry component = new ImmutableBomEntry(entry);
+            componentList.add(component);
+            if (component.getBomRef() != null) {
+                bomRefMap.putIfAbsent(component.getBomRef(), component);
+            }
+            if (component.getPurl() != null) {
+                purlMap.putIfAbsent(component.getPurl(), component);
+            }
+        }
+        components = Collections.unmodifiableList(componentList);
+        byBomRef = bomRefMap;
+        byPurl = purlMap;
+
+        final List<ImmutableExternalComponent> externalList = new ArrayList<>();
+        for (ExternalComponent externalComponent : pBom.getExternalComponents()) {
+            externalList.add(new ImmutableExternalComponent(externalComponent));
+        }
+        externalComponents = Collections.unmodifiableList(externalList);
+
+        dependencies = copyDependencies(pBom.getCycloneDxBom().getDependencies());
+    }
+
+
+
+    @CheckForNull
+    private static String findProperty(@Nullable final List<Property> pProperties, @Nonnull final String pName)
+    {
+        if (pProperties != null) {
+            for (Property property : pProperties) {
+                if (property != null && pName.equals(property.getName())) {
+                    return property.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+
+
+    @Nonnull
+    private static List<ImmutableBomEntry> copyTools(@Nullable final Metadata pMetadata)
+    {
+        if (pMetadata == null || pMetadata.getToolChoice() == null
+            || pMetadata.getToolChoice().getComponents() == null) {
+            return Collections.emptyList();
+        }
+        final List<ImmutableBomEntry> result = new ArrayList<>();
+        for (Component tool : pMetadata.getToolChoice().getComponents()) {
+            if (tool != null) {
+                result.add(new ImmutableBomEntry(new BomEntry(tool)));
+            }
+        }
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+
+
+
+    @Nonnull
+    private static Map<String, List<String>> copyDependencies(@Nullable final List<Dependency> pDependencies)
+    {
+        if (pDependencies == null || pDependencies.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Set<String>> merged = new LinkedHashMap<>();
+        for (Dependency dependency : pDependencies) {
+            if (dependency != null && dependency.getRef() != null) {
+                final Set<String> targets = merged.computeIfAbsent(dependency.getRef(), r -> new LinkedHashSet<>());
+                if (dependency.getDependencies() != null) {
+                    for (Dependency target : dependency.getDependencies()) {
+                        if (target != null && target.getRef() != null) {
+                            targets.add(target.getRef());
+                        }
+                    }
+                }
+            }
+        }
+        final Map<String, List<String>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Set<String>> entry : merged.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().isEmpty() ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return a new <code>Date</code> instance holding the timestamp of the SBOM, or the epoch if it has none
+     */
+    @Nonnull
+    public Date getTimestamp()
+    {
+        return new Date(timestamp);
+    }
+
+
+
+    @CheckForNull
+    public String getSerialNumber()
+    {
+        return serialNumber;
+    }
+
+
+
+    @CheckForNull
+    public String getProfile()
+    {
+        return profile;
+    }
+
+
+
+    @CheckForNull
+    public SbomNature getSbomNature()
+    {
+        return sbomNature;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the Standard BOM version number declared in the SBOM, or <code>null</code> if no such information can
+     * be found
+     * @see StandardBom#getStandardBomVersion()
+     */
+    @CheckForNull
+    public String getStandardBomVersion()
+    {
+        return standardBomVersion;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the component described by the SBOM, as given in its metadata, or <code>null</code> if there is none
+     */
+    @CheckForNull
+    public ImmutableBomEntry getMetadataComponent()
+    {
+        return metadataComponent;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the names of the authors of the SBOM, which may be empty
+     */
+    @Nonnull
+    public List<String> getAuthors()
+    {
+        return authors;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the name of the organization which supplied the SBOM, or <code>null</code> if none is given
+     */
+    @CheckForNull
+    public String getSupplier()
+    {
+        return supplier;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the SPDX license IDs of the licenses of the SBOM itself, or their names if they have no ID
+     */
+    @Nonnull
+    public List<String> getLicenses()
+    {
+        return licenses;
+    }
+
+
+
+    @CheckForNull
+    public String getLicenseExpression()
+    {
+        return licenseExpression;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the tools which created the SBOM, in their original order
+     */
+    @Nonnull
+    public List<ImmutableBomEntry> getTools()
+    {
+        return tools;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return the values of all metadata properties by their full name, for example <code>siemens:profile</code>. If
+     * a name occurs more than once, the first value is used.
+     */
+    @Nonnull
+    public Map<String, String> getProperties()
+    {
+        return properties;
+    }
+
+
+
+    /**
+     * Getter.
+     *
+     * @return an unmodifiable list of the components of this SBOM, in their original order
+     */
+    @Nonnull
+    public List<ImmutableBomEntry> getComponents()
+    {
+        return components;
+    }
+
+
+
+    /**
+     * Find a component by its bom-ref.
+     *
+     * @param pBomRef the bom-ref to look for
+     * @return the first component with the given bom-ref, or <code>null</code> if no such component exists
+     */
+    @CheckForNull
+    public ImmutableBomEntry findByBomRef(@Nullable final String pBomRef)
+    {
+        return pBomRef != null ? byBomRef.get(pBomRef) : null;
+    }
+
+
+
+    /**
+     * Find a component by its package URL.
+     *
+     * @param pPurl the package URL to look for, which must match exactly
+     * @return the first component with the given purl, or <code>null</code> if no such component exists
+     */
+    @CheckForNull
+    public ImmutableBomEntry findByPurl(@Nullable final String pPurl)
+    {
+        return pPurl != null ? byPurl.get(pPurl) : null;
+    }
+
+
+
+    @Nonnull
+    public List<ImmutableExternalComponent> getExternalComponents()
+    {
+        return externalComponents;
+    }
+
+
+
+    /**
+     * Getter. Dependencies which have the same <code>ref</code> in the original SBOM are merged.
+     *
+     * @return an unmodifiable map from bom-refs to the bom-refs they directly depend on, in their original order
+     */
+    @Nonnull
+    public Map<String, List<String>> getDependencies()
+    {
+        return dependencies;
+    }
+
+
+
+    /**
+     * Look up the direct dependencies of a component.
+     *
+     * @param pBomRef the bom-ref of the component
+     * @return the bom-refs the given component directly depends on, which is empty if there are none, or if the
+     * component is unknown
+     */
+    @Nonnull
+    public List<String> getDependsOn(@Nullable final String pBomRef)
+    {
+        final List<String> result = pBomRef != null ? dependencies.get(pBomRef) : null;
+        return result != null ? result : Collections.emptyList();
+    }
+}
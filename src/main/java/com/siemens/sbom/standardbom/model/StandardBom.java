@@ -4,13 +4,16 @@
  */
 package com.siemens.sbom.standardbom.model;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -25,6 +28,10 @@ import org.cyclonedx.model.definition.Definition;
 import org.cyclonedx.model.definition.Standard;
 import org.cyclonedx.model.metadata.ToolInformation;
 
+import com.siemens.sbom.standardbom.OutputStyle;
+import com.siemens.sbom.standardbom.StandardBomException;
+import com.siemens.sbom.standardbom.StandardBomWriter;
+import com.siemens.sbom.standardbom.internal.DigestingOutputStream;
 import com.siemens.sbom.standardbom.internal.PropertyProcessor;
 import com.siemens.sbom.standardbom.internal.VersionUtil;
 
@@ -50,6 +57,165 @@ public class StandardBom
 
     private final Bom cycloneDxSbom;
 
+    /** cached wrappers of the components, replaced whenever the component list changes */
+    private volatile ComponentView componentView = ComponentView.EMPTY;
+
+
+
+    /**
+     * Cached <code>BomEntry</code> wrappers for the CycloneDX components, plus lookup indexes which are built on
+     * demand. Instances never change once created (except for the lazily built indexes and the invalidation flag), so
+     * they can safely be shared between threads.
+     */
+    private static final class ComponentView
+    {
+        static final ComponentView EMPTY = new ComponentView(null, null);
+
+        @CheckForNull
+        private final List<Component> source;
+
+        private final List<BomEntry> entries;
+
+        private final LookupIndex bomRefIndex = new LookupIndex(BomEntry::getBomRef);
+
+        private final LookupIndex purlIndex = new LookupIndex(BomEntry::getPurl);
+
+        /** set when the components are changed via the <code>StandardBom</code> */
+        private volatile boolean invalidated = false;
+
+
+
+        ComponentView(@Nullable final List<Component> pSource, @Nullable final ComponentView pPrevious)
+        {
+            source = pSource;
+            final int size = pSource != null ? pSource.size() : 0;
+            if (size == 0) {
+                entries = Collections.emptyList();
+            }
+            else {
+                final List<BomEntry> previous = pPrevious != null ? pPrevious.entries : Collections.emptyList();
+                final List<BomEntry> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    final Component component = pSource.get(i);
+                    if (i < previous.size() && previous.get(i).getCycloneDxComponent() == component) {
+                        list.add(previous.get(i));   // reuse the existing wrapper
+                    }
+                    else {
+                        list.add(new BomEntry(component));
+                    }
+                }
+                entries = Collections.unmodifiableList(list);
+            }
+        }
+
+
+
+        /**
+         * Determine if this view still reflects the given component list. Changes made directly to the list are
+         * detected by its identity, its size, and its last element, so that this takes constant time.
+         *
+         * @param pSource the current component list of the SBOM
+         * @return <code>true</code> if the view is up-to-date as far as can be told
+         */
+        boolean isValidFor(@Nullable final List<Component> pSource)
+        {
+            if (invalidated || pSource != source) {
+                return false;
+            }
+            if (pSource == null) {
+                return true;
+            }
+            final int size = entries.size();
+            if (pSource.size() != size) {
+                return false;
+            }
+            return size == 0 || pSource.get(size - 1) == entries.get(size - 1).getCycloneDxComponent();
+        }
+
+
+
+        void invalidate()
+        {
+            invalidated = true;
+        }
+
+
+
+        @Nonnull
+        List<BomEntry> getEntries()
+        {
+            return entries;
+        }
+
+
+
+        @CheckForNull
+        BomEntry findByBomRef(@Nonnull final String pBomRef)
+        {
+            return bomRefIndex.find(entries, pBomRef);
+        }
+
+
+
+        @CheckForNull
+        BomEntry findByPurl(@Nonnull final String pPurl)
+        {
+            return purlIndex.find(entries, pPurl);
+        }
+    }
+
+
+
+    /**
+     * Maps a String key to the first component which has it. The index is built on first use.
+     */
+    private static final class LookupIndex
+    {
+        private final Function<BomEntry, String> keyFunction;
+
+        private volatile Map<String, BomEntry> index = null;
+
+
+
+        LookupIndex(@Nonnull final Function<BomEntry, String> pKeyFunction)
+        {
+            keyFunction = pKeyFunction;
+        }
+
+
+
+        @CheckForNull
+        BomEntry find(@Nonnull final List<BomEntry> pEntries, @Nonnull final String pKey)
+        {
+            Map<String, BomEntry> map = index;
+            if (map == null) {
+                map = build(pEntries);
+            }
+            BomEntry result = map.get(pKey);
+            if (result != null && !pKey.equals(keyFunction.apply(result))) {
+                // the entry was modified since the index was built
+                result = build(pEntries).get(pKey);
+            }
+            return result;
+        }
+
+
+
+        @Nonnull
+        private Map<String, BomEntry> build(@Nonnull final List<BomEntry> pEntries)
+        {
+            final Map<String, BomEntry> map = new HashMap<>();
+            for (BomEntry entry : pEntries) {
+                final String key = keyFunction.apply(entry);
+                if (key != null) {
+                    map.putIfAbsent(key, entry);
+                }
+            }
+            index = map;
+            return map;
+        }
+    }
+
 
 
     public StandardBom()
@@ -149,14 +315,68 @@ public class StandardBom
 
 
 
+    /**
+     * Getter.
+     * <p>The returned list is cached, so calling this method repeatedly does not allocate anything. The cache is
+     * refreshed when components are added via {@link #addComponent}, and also when the underlying CycloneDX component
+     * list is replaced, or modified directly in a way that changes its size or its last element. Replacing other
+     * elements of the list in place is not detected. Only the wrappers of components which were replaced are created
+     * anew.</p>
+     *
+     * @return an unmodifiable list of the components of this SBOM
+     */
     @Nonnull
     public List<BomEntry> getComponents()
     {
-        if (cycloneDxSbom.getComponents() == null) {
-            return Collections.emptyList();
+        return getComponentView().getEntries();
+    }
+
+
+
+    @Nonnull
+    private ComponentView getComponentView()
+    {
+        final List<Component> components = cycloneDxSbom.getComponents();
+        ComponentView result = componentView;
+        if (!result.isValidFor(components)) {
+            result = new ComponentView(components, result);
+            componentView = result;
         }
-        return Collections.unmodifiableList(
-            cycloneDxSbom.getComponents().stream().map(BomEntry::new).collect(Collectors.toList()));
+        return result;
+    }
+
+
+
+    /**
+     * Find a component by its bom-ref. The lookup uses a hash index, so it takes constant time on average. The index
+     * is built on first use and kept until the components change, so the first lookup after a change takes time
+     * proportional to the number of components. If the bom-ref of a component is modified after it has been indexed,
+     * the component may not be found by its new bom-ref.
+     *
+     * @param pBomRef the bom-ref to look for
+     * @return the first component with the given bom-ref, or <code>null</code> if no such component exists
+     */
+    @CheckForNull
+    public BomEntry findByBomRef(@Nullable final String pBomRef)
+    {
+        return pBomRef != null ? getComponentView().findByBomRef(pBomRef) : null;
+    }
+
+
+
+    /**
+     * Find a component by its package URL. The lookup uses a hash index, so it takes constant time on average. The
+     * index is built on first use and kept until the components change, so the first lookup after a change takes time
+     * proportional to the number of components. If the purl of a component is modified after it has been indexed,
+     * the component may not be found by its new purl.
+     *
+     * @param pPurl the package URL to look for, which must match exactly
+     * @return the first component with the given purl, or <code>null</code> if no such component exists
+     */
+    @CheckForNull
+    public BomEntry findByPurl(@Nullable final String pPurl)
+    {
+        return pPurl != null ? getComponentView().findByPurl(pPurl) : null;
     }
 
 
@@ -164,6 +384,7 @@ public class StandardBom
     public void addComponent(@Nonnull final BomEntry pBomEntry)
     {
         cycloneDxSbom.addComponent(pBomEntry.getCycloneDxComponent());
+        componentView.invalidate();   // refreshed on next access
     }
 
 
@@ -302,7 +523,8 @@ public class StandardBom
     private String getStandardBomVersionFromTools()
     {
         String result = null;
-        List<org.cyclonedx.model.Tool> tools = getMetadata().getTools();
+        final Metadata metadata = cycloneDxSbom.getMetadata();   // don't create it, so that this stays read-only
+        List<org.cyclonedx.model.Tool> tools = metadata != null ? metadata.getTools() : null;
         if (tools != null) {
             for (org.cyclonedx.model.Tool tool : tools) {
                 if ("standard-bom".equals(tool.getName()) && SPEC_OWNER.equals(tool.getVendor())) {
@@ -316,6 +538,48 @@ public class StandardBom
 
 
 
+    /**
+     * Compute the SHA-256 digest of the {@link OutputStyle#Canonical canonical} JSON encoding of this SBOM. Two SBOMs
+     * with the same content have the same content hash, regardless of the order in which their components and other
+     * items were added. The encoding is streamed into the digest, so it is never held in memory.
+     * <p>All fields are part of the content, including the timestamp and the serial number.</p>
+     *
+     * @return the content hash, as a String of 64 lowercase hex digits
+     * @throws StandardBomException this SBOM could not be serialized
+     */
+    @Nonnull
+    public String contentHash()
+    {
+        final DigestingOutputStream digester = new DigestingOutputStream();
+        try {
+            new StandardBomWriter(digester, this, OutputStyle.Canonical).close();
+        }
+        catch (StandardBomException e) {
+            throw e;
+        }
+        catch (IOException | RuntimeException e) {
+            throw new StandardBomException("Failed to compute content hash", e);
+        }
+        return digester.getHexDigest();
+    }
+
+
+
+    /**
+     * Take a read-only snapshot of this SBOM. The snapshot can be shared between threads without synchronization,
+     * whereas this object must not be used concurrently, because even some of its getters modify it.
+     * <p>This SBOM is not modified by this method, and later changes to it do not affect the snapshot.</p>
+     *
+     * @return the snapshot
+     */
+    @Nonnull
+    public ImmutableStandardBom freeze()
+    {
+        return new ImmutableStandardBom(this);
+    }
+
+
+
     @Nonnull
     public Bom getCycloneDxBom()
     {
@@ -6,6 +6,7 @@ package com.siemens.sbom.standardbom;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.cyclonedx.model.Component;
@@ -89,6 +90,74 @@ public class BomEntrySortComparatorTest
 
 
 
+    @Test
+    public void testSortDeterministic()
+    {
+        final List<BomEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            final BomEntry plain = buildEntry(Component.Type.LIBRARY, "group1", "artifact1", "1.0", null, null);
+            final BomEntry withPurl = buildEntry(Component.Type.LIBRARY, "group1", "artifact1", "1.0", null, null);
+            withPurl.setPurl("pkg:maven/group1/artifact1@1.0");
+            final BomEntry withBomRef = buildEntry(Component.Type.LIBRARY, "group1", "artifact1", "1.0", null, null);
+            withBomRef.setBomRef("ref1");
+            final BomEntry withMd5 = buildEntry(Component.Type.LIBRARY, "group1", "artifact1", "1.0", null, null);
+            withMd5.setMd5("e4a4c8b5e2e8e3f6b2f1a8c1d2e3f4a5");
+            final BomEntry withSha256 = buildEntry(Component.Type.LIBRARY, "group1", "artifact1", "1.0", null, null);
+            withSha256.setSha256("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08");
+            final BomEntry direct = buildEntry(Component.Type.LIBRARY, "group1", "artifact1", "1.0", null, null);
+            direct.setDirectDependency(Boolean.TRUE);
+            final BomEntry transitive = buildEntry(Component.Type.LIBRARY, "group1", "artifact1", "1.0", null, null);
+            transitive.setDirectDependency(Boolean.FALSE);
+            entries.addAll(Arrays.asList(plain, withPurl, withBomRef, withMd5, withSha256, direct, transitive));
+        }
+        final List<BomEntry> shuffled = new ArrayList<>(entries);
+        Collections.reverse(shuffled);
+
+        final BomEntrySortComparator comparator = new BomEntrySortComparator(true);
+        entries.sort(comparator);
+        shuffled.sort(comparator);
+
+        Assert.assertTrue(comparator.isDeterministic());
+        for (int i = 0; i < entries.size(); i++) {
+            Assert.assertEquals("element " + i, describe(entries.get(i)), describe(shuffled.get(i)));
+        }
+        Assert.assertEquals("pkg:maven/group1/artifact1@1.0", entries.get(0).getPurl());
+        Assert.assertEquals("ref1", entries.get(2).getBomRef());
+        Assert.assertEquals(Boolean.FALSE, entries.get(8).isDirectDependency());
+        Assert.assertEquals(Boolean.TRUE, entries.get(10).isDirectDependency());
+        Assert.assertNull(entries.get(12).getCycloneDxComponent().getProperties());
+    }
+
+
+
+    @Test
+    public void testTieBrokenByCanonicalForm()
+    {
+        final BomEntry apacheMit = buildEntry(Component.Type.LIBRARY, "group1", "artifact1", "1.0", null, null);
+        apacheMit.addLicense(SbomTestData.createLicense("Apache-2.0"));
+        apacheMit.addLicense(SbomTestData.createLicense("MIT"));
+        final BomEntry mitApache = buildEntry(Component.Type.LIBRARY, "group1", "artifact1", "1.0", null, null);
+        mitApache.addLicense(SbomTestData.createLicense("MIT"));
+        mitApache.addLicense(SbomTestData.createLicense("Apache-2.0"));
+        final BomEntry bsd = buildEntry(Component.Type.LIBRARY, "group1", "artifact1", "1.0", null, null);
+        bsd.addLicense(SbomTestData.createLicense("BSD-3-Clause"));
+
+        final BomEntrySortComparator comparator = new BomEntrySortComparator(true);
+        Assert.assertEquals(0, comparator.compare(apacheMit, mitApache));
+        Assert.assertTrue(comparator.compare(apacheMit, bsd) < 0);
+        Assert.assertTrue(comparator.compare(mitApache, bsd) < 0);
+    }
+
+
+
+    private String describe(final BomEntry pEntry)
+    {
+        return pEntry.getPurl() + "|" + pEntry.getBomRef() + "|" + pEntry.getMd5() + "|" + pEntry.getSha256() + "|"
+            + pEntry.isDirectDependency();
+    }
+
+
+
     private BomEntry buildEntry(final Component.Type pType, final String pGroup, final String pName,
         final String pVersion, final String pFilename, final String pSha1)
     {
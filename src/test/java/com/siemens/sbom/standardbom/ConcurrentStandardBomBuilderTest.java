@@ -0,0 +1,199 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.cyclonedx.model.Dependency;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.ExternalComponent;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Unit tests of {@link ConcurrentStandardBomBuilder}.
+ */
+public class ConcurrentStandardBomBuilderTest
+{
+    private static final int NUM_THREADS = 8;
+
+    private static final int NUM_PER_THREAD = 500;
+
+
+
+    private static BomEntry createComponent(final int pIndex)
+    {
+        final BomEntry result = new BomEntry();
+        result.setGroup("com.example");
+        result.setName("lib" + (pIndex % 97));
+        result.setVersion("1." + pIndex);
+        result.setPurl("pkg:maven/com.example/lib" + (pIndex % 97) + "@1." + pIndex);
+        result.setBomRef(result.getPurl());
+        return result;
+    }
+
+
+
+    private static Dependency createDependency(final int pIndex)
+    {
+        final Dependency result = new Dependency("pkg:maven/com.example/lib" + (pIndex % 97) + "@1." + (pIndex % 7));
+        result.addDependency(new Dependency("pkg:maven/com.example/target@" + pIndex));
+        return result;
+    }
+
+
+
+    private static ExternalComponent createExternalComponent(final int pIndex)
+    {
+        final ExternalComponent result = new ExternalComponent();
+        result.setUrl("pkg:generic/com.example/external@" + pIndex);
+        result.setDescription("sbom " + pIndex);
+        return result;
+    }
+
+
+
+    private static StandardBom buildConcurrently()
+        throws Exception
+    {
+        final ConcurrentStandardBomBuilder underTest = new ConcurrentStandardBomBuilder();
+        final ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < NUM_THREADS; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = thread; i < NUM_THREADS * NUM_PER_THREAD; i += NUM_THREADS) {
+                        underTest.addComponent(createComponent(i));
+                        underTest.addDependency(createDependency(i));
+                        if (i % 50 == 0) {
+                            underTest.addExternalComponent(createExternalComponent(i));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+        return underTest.build();
+    }
+
+
+
+    private static StandardBom buildSequentiallyReversed()
+    {
+        final ConcurrentStandardBomBuilder underTest = new ConcurrentStandardBomBuilder();
+        for (int i = NUM_THREADS * NUM_PER_THREAD - 1; i >= 0; i--) {
+            underTest.addComponent(createComponent(i));
+            underTest.addDependency(createDependency(i));
+            if (i % 50 == 0) {
+                underTest.addExternalComponent(createExternalComponent(i));
+            }
+        }
+        return underTest.build();
+    }
+
+
+
+    @Test
+    public void testDeterministic()
+        throws Exception
+    {
+        final StandardBom expected = buildSequentiallyReversed();
+        final StandardBom actual = buildConcurrently();
+        actual.getCycloneDxBom().setSerialNumber(expected.getSerialNumber());
+        actual.setTimestamp(expected.getTimestamp());
+
+        final StandardBomParser parser = new StandardBomParser();
+        Assert.assertEquals(parser.stringify(expected), parser.stringify(actual));
+
+        final List<BomEntry> components = actual.getComponents();
+        Assert.assertEquals(NUM_THREADS * NUM_PER_THREAD, components.size());
+        final BomEntrySortComparator comparator = new BomEntrySortComparator(true);
+        for (int i = 1; i < components.size(); i++) {
+            Assert.assertTrue(comparator.compare(components.get(i - 1), components.get(i)) <= 0);
+        }
+    }
+
+
+
+    @Test
+    public void testMergeDependencies()
+    {
+        final ConcurrentStandardBomBuilder underTest = new ConcurrentStandardBomBuilder();
+        for (int i = 0; i < 3 * 7; i++) {
+            underTest.addDependency(createDependency(i * 97));
+        }
+        final StandardBom actual = underTest.build();
+
+        final List<Dependency> dependencies = actual.getDependencies();
+        Assert.assertEquals(7, dependencies.size());
+        for (int i = 0; i < dependencies.size(); i++) {
+            Assert.assertEquals("pkg:maven/com.example/lib0@1." + i, dependencies.get(i).getRef());
+            Assert.assertEquals(3, dependencies.get(i).getDependencies().size());
+        }
+    }
+
+
+
+    @Test
+    public void testSingleDependencyNotModified()
+    {
+        final ConcurrentStandardBomBuilder underTest = new ConcurrentStandardBomBuilder();
+        final Dependency leaf = new Dependency("pkg:maven/com.example/leaf@1");
+        underTest.addDependency(leaf);
+        final Dependency dependency = new Dependency("pkg:maven/com.example/lib@1");
+        dependency.addDependency(new Dependency("pkg:maven/com.example/z@1"));
+        dependency.addDependency(new Dependency("pkg:maven/com.example/a@1"));
+        final List<Dependency> targets = dependency.getDependencies();
+        underTest.addDependency(dependency);
+
+        final List<Dependency> actual = underTest.build().getDependencies();
+
+        Assert.assertNull(leaf.getDependencies());
+        Assert.assertSame(targets, dependency.getDependencies());
+        Assert.assertEquals("pkg:maven/com.example/z@1", targets.get(0).getRef());
+        Assert.assertNull(actual.get(0).getDependencies());
+        Assert.assertEquals("pkg:maven/com.example/a@1", actual.get(1).getDependencies().get(0).getRef());
+    }
+
+
+
+    @Test
+    public void testKeepsHeaderContent()
+    {
+        final StandardBom header = new StandardBom();
+        header.addComponent(createComponent(2));
+        final ConcurrentStandardBomBuilder underTest = new ConcurrentStandardBomBuilder(header);
+        underTest.addComponent(createComponent(1));
+
+        final StandardBom actual = underTest.build();
+
+        Assert.assertSame(header, actual);
+        Assert.assertEquals(2, actual.getComponents().size());
+        Assert.assertEquals("1.1", actual.getComponents().get(0).getVersion());
+    }
+
+
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddAfterBuild()
+    {
+        final ConcurrentStandardBomBuilder underTest = new ConcurrentStandardBomBuilder();
+        underTest.build();
+        underTest.addComponent(createComponent(1));
+    }
+}
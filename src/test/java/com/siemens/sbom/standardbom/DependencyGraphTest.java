@@ -0,0 +1,144 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Unit tests of {@link DependencyGraph}.
+ */
+public class DependencyGraphTest
+{
+    /**
+     * <pre>
+     *   app -> lib1 -> util
+     *   app -> lib2 -> util
+     * </pre>
+     * plus a component <code>unused</code> without dependencies.
+     *
+     * @return a new SBOM
+     */
+    private static StandardBom createDiamond()
+    {
+        final StandardBom result = new StandardBom();
+        for (String ref : new String[]{"app", "lib1", "lib2", "util", "unused"}) {
+            final BomEntry component = new BomEntry();
+            component.setBomRef(ref);
+            result.addComponent(component);
+        }
+        SbomTestData.addDependency(result, "app", "lib1", "lib2");
+        SbomTestData.addDependency(result, "lib1", "util");
+        SbomTestData.addDependency(result, "lib2", "util", "util");
+        SbomTestData.addDependency(result, "lib2", "util");
+        return result;
+    }
+
+
+
+    @Test
+    public void testDiamond()
+    {
+        final DependencyGraph underTest = new DependencyGraph(createDiamond());
+
+        Assert.assertEquals(5, underTest.size());
+        Assert.assertEquals(4, underTest.getEdgeCount());
+        Assert.assertEquals("lib2", underTest.getBomRef(underTest.getId("lib2")));
+        Assert.assertEquals(Arrays.asList("lib1", "lib2"), underTest.getDirectDependencies("app"));
+        Assert.assertEquals(Arrays.asList("lib1", "lib2"), underTest.getDirectDependents("util"));
+        Assert.assertEquals(Arrays.asList("lib1", "lib2", "util"), underTest.getTransitiveDependencies("app"));
+        Assert.assertEquals(Arrays.asList("lib1", "lib2", "app"), underTest.getTransitiveDependents("util"));
+        Assert.assertTrue(underTest.getTransitiveDependents("unused").isEmpty());
+        Assert.assertFalse(underTest.hasCycles());
+        Assert.assertTrue(underTest.getCycles().isEmpty());
+
+        final List<String> order = underTest.getTopologicalOrder();
+        Assert.assertNotNull(order);
+        Assert.assertEquals(5, order.size());
+        Assert.assertTrue(order.indexOf("util") < order.indexOf("lib1"));
+        Assert.assertTrue(order.indexOf("util") < order.indexOf("lib2"));
+        Assert.assertTrue(order.indexOf("lib1") < order.indexOf("app"));
+        Assert.assertTrue(order.indexOf("lib2") < order.indexOf("app"));
+    }
+
+
+
+    @Test
+    public void testUnknown()
+    {
+        final DependencyGraph underTest = new DependencyGraph(createDiamond());
+
+        Assert.assertEquals(DependencyGraph.UNKNOWN, underTest.getId("unknown"));
+        Assert.assertEquals(DependencyGraph.UNKNOWN, underTest.getId(null));
+        Assert.assertTrue(underTest.getDirectDependencies("unknown").isEmpty());
+        Assert.assertTrue(underTest.getTransitiveDependencies(null).isEmpty());
+        Assert.assertEquals(Arrays.asList("lib1", "lib2", "app"),
+            underTest.getTransitiveDependents(Arrays.asList("unknown", "util", "lib1")));
+    }
+
+
+
+    @Test
+    public void testCycles()
+    {
+        final StandardBom sbom = new StandardBom();
+        SbomTestData.addDependency(sbom, "a", "b");
+        SbomTestData.addDependency(sbom, "b", "c");
+        SbomTestData.addDependency(sbom, "c", "a", "d");
+        SbomTestData.addDependency(sbom, "d", "d");
+        SbomTestData.addDependency(sbom, "e", "a");
+        final DependencyGraph underTest = new DependencyGraph(sbom);
+
+        Assert.assertTrue(underTest.hasCycles());
+        Assert.assertNull(underTest.getTopologicalOrder());
+        Assert.assertEquals(new HashSet<>(Arrays.asList(Arrays.asList("a", "b", "c"), Collections.singletonList("d"))),
+            new HashSet<>(underTest.getCycles()));
+        Assert.assertEquals(Arrays.asList("b", "c", "a", "d"), underTest.getTransitiveDependencies("a"));
+        Assert.assertEquals(Arrays.asList("c", "d", "b", "a", "e"), underTest.getTransitiveDependents("d"));
+    }
+
+
+
+    @Test
+    public void testLongChain()
+    {
+        final int length = 100000;
+        final StandardBom sbom = new StandardBom();
+        for (int i = 1; i < length; i++) {
+            SbomTestData.addDependency(sbom, "n" + i, "n" + (i - 1));
+        }
+        SbomTestData.addDependency(sbom, "n0", "n" + (length - 1));
+        final DependencyGraph underTest = new DependencyGraph(sbom);
+
+        Assert.assertEquals(length, underTest.size());
+        Assert.assertEquals(length, underTest.getTransitiveDependents("n0").size());
+        final List<List<String>> cycles = underTest.getCycles();
+        Assert.assertEquals(1, cycles.size());
+        Assert.assertEquals(length, cycles.get(0).size());
+    }
+
+
+
+    @Test
+    public void testFromSnapshot()
+    {
+        final StandardBom sbom = createDiamond();
+        final DependencyGraph expected = new DependencyGraph(sbom);
+        final DependencyGraph actual = new DependencyGraph(sbom.freeze());
+
+        Assert.assertEquals(expected.size(), actual.size());
+        Assert.assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        Assert.assertEquals(expected.getTopologicalOrder(), actual.getTopologicalOrder());
+    }
+}
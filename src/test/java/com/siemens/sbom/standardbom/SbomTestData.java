@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.License;
+
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Helpers for building the SBOMs used in unit tests.
+ */
+final class SbomTestData
+{
+    private SbomTestData()
+    {
+        // utility class
+    }
+
+
+
+    /**
+     * Create a license.
+     *
+     * @param pId the SPDX license ID
+     * @return a new license with only the given ID
+     */
+    static License createLicense(final String pId)
+    {
+        final License result = new License();
+        result.setId(pId);
+        return result;
+    }
+
+
+
+    /**
+     * Add a dependency to the given SBOM.
+     *
+     * @param pBom the SBOM to modify
+     * @param pRef the bom-ref of the dependent component
+     * @param pDependsOn the bom-refs of the components it depends on
+     */
+    static void addDependency(final StandardBom pBom, final String pRef, final String... pDependsOn)
+    {
+        final Dependency dependency = new Dependency(pRef);
+        for (String target : pDependsOn) {
+            dependency.addDependency(new Dependency(target));
+        }
+        pBom.addDependency(dependency);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.cyclonedx.exception.ParseException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+
+/**
+ * Unit tests of {@link StandardBomBatchReader}.
+ */
+public class StandardBomBatchReaderTest
+{
+    @Rule
+    public final TemporaryFolder tempDir = new TemporaryFolder();
+
+
+
+    private List<Path> createFiles(final int pCount)
+        throws IOException, URISyntaxException
+    {
+        //noinspection ConstantConditions
+        final byte[] content = Files.readAllBytes(Paths.get(getClass().getResource("full-valid.cdx.json").toURI()));
+        final List<Path> result = new ArrayList<>();
+        for (int i = 0; i < pCount; i++) {
+            final Path file = tempDir.newFile("bom" + i + ".cdx.json").toPath();
+            Files.write(file, content);
+            result.add(file);
+        }
+        return result;
+    }
+
+
+
+    @Test
+    public void testParseAll()
+        throws IOException, URISyntaxException
+    {
+        final List<Path> files = createFiles(20);
+        final Path broken = tempDir.newFile("broken.cdx.json").toPath();
+        Files.write(broken, "{\"bomFormat\": ".getBytes(StandardCharsets.UTF_8));
+        files.add(5, broken);
+        final Path missing = tempDir.getRoot().toPath().resolve("missing.cdx.json");
+        files.add(missing);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        final List<ParseResult> results;
+        try (StandardBomBatchReader reader = new StandardBomParser().parseAll(files, executor, 2)) {
+            results = reader.stream().collect(Collectors.toList());
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(files.size(), results.size());
+        Assert.assertEquals(new HashSet<>(files),
+            results.stream().map(ParseResult::getPath).collect(Collectors.toSet()));
+        for (ParseResult result : results) {
+            if (result.getPath().equals(broken)) {
+                Assert.assertFalse(result.isSuccess());
+                Assert.assertTrue(result.getError() instanceof ParseException);
+            }
+            else if (result.getPath().equals(missing)) {
+                Assert.assertFalse(result.isSuccess());
+                Assert.assertTrue(result.getError() instanceof NoSuchFileException);
+            }
+            else {
+                Assert.assertTrue(result.isSuccess());
+                Assert.assertNotNull(result.getBom());
+                Assert.assertEquals(9, result.getBom().getComponents().size());
+            }
+        }
+    }
+
+
+
+    @Test
+    public void testBackPressure()
+        throws IOException, URISyntaxException
+    {
+        final List<Path> files = createFiles(5);
+        final AtomicInteger submitted = new AtomicInteger();
+        final Executor countingExecutor = pTask -> {
+            submitted.incrementAndGet();
+            pTask.run();
+        };
+
+        final Set<Path> seen = new HashSet<>();
+        try (StandardBomBatchReader reader = new StandardBomParser().parseAll(files, countingExecutor, 2)) {
+            Assert.assertEquals(2, submitted.get());
+            seen.add(reader.next().getPath());
+            Assert.assertEquals(3, submitted.get());
+            seen.add(reader.next().getPath());
+            seen.add(reader.next().getPath());
+            seen.add(reader.next().getPath());
+            Assert.assertEquals(5, submitted.get());
+            Assert.assertTrue(reader.hasNext());
+            seen.add(reader.next().getPath());
+            Assert.assertFalse(reader.hasNext());
+        }
+        Assert.assertEquals(new HashSet<>(files), seen);
+    }
+
+
+
+    @Test
+    public void testClose()
+        throws IOException, URISyntaxException
+    {
+        final List<Path> files = createFiles(5);
+        final AtomicInteger submitted = new AtomicInteger();
+        final Executor countingExecutor = pTask -> {
+            submitted.incrementAndGet();
+            pTask.run();
+        };
+
+        final StandardBomBatchReader reader = new StandardBomParser().parseAll(files, countingExecutor, 2);
+        reader.next();
+        reader.close();
+
+        Assert.assertFalse(reader.hasNext());
+        Assert.assertEquals(3, submitted.get());
+    }
+
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLimit()
+    {
+        new StandardBomParser().parseAll(new ArrayList<>(), Runnable::run, 0);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+import org.cyclonedx.model.Component;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.ImmutableBomEntry;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Unit tests of {@link StandardBomDiff}.
+ */
+public class StandardBomDiffTest
+{
+    private static final List<String> EXPECTED = Collections.unmodifiableList(Arrays.asList(
+        "changed guava guava hashes=[] added=[] removed=[] properties=[siemens:primaryLanguage]",
+        "added new-lib",
+        "changed codec-1.15 codec-1.16 version hashes=[SHA-1] added=[MIT] removed=[] properties=[]",
+        "removed old-lib",
+        "removed codec-1.15 -> old-lib",
+        "added app@2 -> new-lib"));
+
+    @Rule
+    public final TemporaryFolder tempDir = new TemporaryFolder();
+
+
+
+    /**
+     * Records the results of a diff as strings, in the order in which they are reported.
+     */
+    private static final class RecordingListener
+        implements StandardBomDiffListener
+    {
+        private final List<String> results = new ArrayList<>();
+
+
+
+        @Override
+        public void componentAdded(@Nonnull final ImmutableBomEntry pNewComponent)
+        {
+            results.add("added " + pNewComponent.getBomRef());
+        }
+
+
+
+        @Override
+        public void componentRemoved(@Nonnull final ImmutableBomEntry pOldComponent)
+        {
+            results.add("removed " + pOldComponent.getBomRef());
+        }
+
+
+
+        @Override
+        public void componentChanged(@Nonnull final ComponentChange pChange)
+        {
+            results.add("changed " + pChange.getOldComponent().getBomRef() + " " + pChange.getNewComponent().getBomRef()
+                + (pChange.isVersionChanged() ? " version" : "") + " hashes=" + pChange.getChangedHashes()
+                + " added=" + pChange.getAddedLicenses() + " removed=" + pChange.getRemovedLicenses()
+                + " properties=" + pChange.getChangedProperties());
+        }
+
+
+
+        @Override
+        public void dependencyAdded(@Nonnull final String pRef, @Nonnull final String pDependsOn)
+        {
+            results.add("added " + pRef + " -> " + pDependsOn);
+        }
+
+
+
+        @Override
+        public void dependencyRemoved(@Nonnull final String pRef, @Nonnull final String pDependsOn)
+        {
+            results.add("removed " + pRef + " -> " + pDependsOn);
+        }
+    }
+
+
+
+    private static BomEntry createComponent(final String pBomRef, final String pPurl, final String pVersion)
+    {
+        final BomEntry result = new BomEntry();
+        result.setBomRef(pBomRef);
+        result.setPurl(pPurl);
+        result.setName(pBomRef);
+        result.setVersion(pVersion);
+        return result;
+    }
+
+
+
+    private static StandardBom createBom(final String pAppRef)
+    {
+        final StandardBom result = new StandardBom();
+        final Component app = new Component();
+        app.setBomRef(pAppRef);
+        app.setName("app");
+        result.getMetadata().setComponent(app);
+        return result;
+    }
+
+
+
+    private static StandardBom createOld()
+    {
+        final StandardBom result = createBom("app@1");
+        final BomEntry codec = createComponent("codec-1.15", "pkg:maven/commons-codec/commons-codec@1.15", "1.15");
+        codec.setSha1("49d94806b6e3dc933dacbd8acb0fdbab8ebd1e5d");
+        codec.addLicense(SbomTestData.createLicense("Apache-2.0"));
+        result.addComponent(codec);
+        final BomEntry guava = createComponent("guava", "pkg:maven/com.google.guava/guava@30.0", "30.0");
+        guava.setPrimaryLanguage("Java");
+        result.addComponent(guava);
+        result.addComponent(createComponent("old-lib", "pkg:npm/old-lib@1.0.0", "1.0.0"));
+        SbomTestData.addDependency(result, "app@1", "codec-1.15", "guava");
+        SbomTestData.addDependency(result, "codec-1.15", "old-lib");
+        return result;
+    }
+
+
+
+    private static StandardBom createNew()
+    {
+        final StandardBom result = createBom("app@2");
+        final BomEntry guava = createComponent("guava", "pkg:maven/com.google.guava/guava@30.0", "30.0");
+        guava.setPrimaryLanguage("Kotlin");
+        result.addComponent(guava);
+        final BomEntry codec = createComponent("codec-1.16", "pkg:maven/commons-codec/commons-codec@1.16", "1.16");
+        codec.setSha1("8c9de4b9e2f1cde60c4a24a2d1ac0d4fa0d4ae5c");
+        codec.addLicense(SbomTestData.createLicense("Apache-2.0"));
+        codec.addLicense(SbomTestData.createLicense("MIT"));
+        result.addComponent(codec);
+        result.addComponent(createComponent("new-lib", "pkg:npm/new-lib@2.0.0", "2.0.0"));
+        SbomTestData.addDependency(result, "app@2", "codec-1.16", "guava", "new-lib");
+        SbomTestData.addDependency(result, "codec-1.16");
+        return result;
+    }
+
+
+
+    @Test
+    public void testDiff()
+    {
+        final RecordingListener listener = new RecordingListener();
+        new StandardBomDiff().diff(createOld(), createNew(), listener);
+        Assert.assertEquals(EXPECTED, listener.results);
+    }
+
+
+
+    @Test
+    public void testDiffFiles()
+        throws IOException
+    {
+        final StandardBomParser parser = new StandardBomParser();
+        final Path oldFile = tempDir.newFile("old.cdx.json").toPath();
+        parser.save(createOld(), oldFile, Compression.None);
+        final Path newFile = tempDir.newFile("new.cdx.json.gz").toPath();
+        parser.save(createNew(), newFile, Compression.Gzip);
+
+        final RecordingListener listener = new RecordingListener();
+        new StandardBomDiff().diff(oldFile, newFile, listener);
+        Assert.assertEquals(EXPECTED, listener.results);
+    }
+
+
+
+    @Test
+    public void testNullDependencies()
+    {
+        final StandardBom oldBom = createOld();
+        oldBom.getDependencies().add(null);
+        final StandardBom newBom = createNew();
+        newBom.getDependencies().add(0, null);
+        newBom.getDependencies().get(1).getDependencies().add(null);
+
+        final RecordingListener listener = new RecordingListener();
+        new StandardBomDiff().diff(oldBom, newBom, listener);
+        Assert.assertEquals(EXPECTED, listener.results);
+    }
+
+
+
+    @Test
+    public void testNoChanges()
+    {
+        final RecordingListener listener = new RecordingListener();
+        new StandardBomDiff().diff(createOld(), createOld(), listener);
+        Assert.assertTrue(listener.results.isEmpty());
+    }
+
+
+
+    @Test
+    public void testDuplicatesAndUnidentifiable()
+    {
+        final StandardBom oldBom = new StandardBom();
+        oldBom.addComponent(createComponent("a1", null, "1.0"));
+        oldBom.addComponent(createComponent("a2", null, "1.0"));
+        oldBom.addComponent(new BomEntry());
+        final StandardBom newBom = new StandardBom();
+        newBom.addComponent(createComponent("a1", null, "1.0"));
+        newBom.addComponent(createComponent("a1", null, "2.0"));
+        newBom.addComponent(new BomEntry());
+
+        final RecordingListener listener = new RecordingListener();
+        new StandardBomDiff().diff(oldBom, newBom, listener);
+        Assert.assertEquals(Arrays.asList("added null", "added a1", "removed a2", "removed null"), listener.results);
+    }
+}
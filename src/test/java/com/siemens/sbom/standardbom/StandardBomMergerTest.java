@@ -0,0 +1,230 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.cyclonedx.model.Dependency;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.SourceArtifactRefUrl;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Unit tests of {@link StandardBomMerger}.
+ */
+public class StandardBomMergerTest
+{
+    private static final String SHA1 = "49d94806b6e3dc933dacbd8acb0fdbab8ebd1e5d";
+
+    private static final String MD5 = "303baf002ce6d382198090aedd9d79a2";
+
+
+
+    private static BomEntry createComponent(final String pBomRef, final String pPurl)
+    {
+        final BomEntry result = new BomEntry();
+        result.setBomRef(pBomRef);
+        result.setPurl(pPurl);
+        result.setName(pBomRef);
+        return result;
+    }
+
+
+
+    private static StandardBom createFirst()
+    {
+        final StandardBom result = new StandardBom();
+        final BomEntry codec = createComponent("codec", "pkg:maven/commons-codec/commons-codec@1.15?type=jar&x=1");
+        codec.setSha1(SHA1);
+        codec.addLicense(SbomTestData.createLicense("Apache-2.0"));
+        codec.setPrimaryLanguage("Java");
+        result.addComponent(codec);
+        result.addComponent(createComponent("app", "pkg:maven/com.example/app@1.0"));
+        SbomTestData.addDependency(result, "app", "codec");
+        return result;
+    }
+
+
+
+    private static StandardBom createSecond()
+    {
+        final StandardBom result = new StandardBom();
+        final BomEntry codec = createComponent("codec-1.15", "pkg:Maven/commons-codec/commons-codec@1.15?x=1&type=jar");
+        codec.setMd5(MD5);
+        codec.setSha1(SHA1);
+        codec.addLicense(SbomTestData.createLicense("Apache-2.0"));
+        codec.addLicense(SbomTestData.createLicense("MIT"));
+        codec.setFilename("commons-codec-1.15.jar");
+        codec.setPrimaryLanguage("Kotlin");   // conflicts, so the first value is kept
+        final SourceArtifactRefUrl sources = new SourceArtifactRefUrl();
+        sources.setUrl("https://example.com/commons-codec-1.15-sources.jar");
+        codec.addSources(sources);
+        result.addComponent(codec);
+        result.addComponent(createComponent("app", "pkg:maven/com.example/other-app@2.0"));
+        SbomTestData.addDependency(result, "app", "codec-1.15");
+        SbomTestData.addDependency(result, "codec-1.15");
+        return result;
+    }
+
+
+
+    @Test
+    public void testMerge()
+    {
+        final StandardBom actual = new StandardBomMerger().merge(Arrays.asList(createFirst(), createSecond()));
+
+        final List<BomEntry> components = actual.getComponents();
+        Assert.assertEquals(3, components.size());
+
+        final BomEntry codec = components.get(0);
+        Assert.assertEquals("codec", codec.getBomRef());
+        Assert.assertEquals(SHA1, codec.getSha1());
+        Assert.assertEquals(MD5, codec.getMd5());
+        Assert.assertEquals("Java", codec.getPrimaryLanguage());
+        Assert.assertEquals("commons-codec-1.15.jar", codec.getFilename());
+        Assert.assertEquals(2, codec.getLicenses().getLicenses().size());
+        Assert.assertEquals(1, codec.getSourceDownloadUrls().size());
+        Assert.assertEquals(2, codec.getCycloneDxComponent().getHashes().size());
+
+        Assert.assertEquals("app", components.get(1).getBomRef());
+        Assert.assertEquals("pkg:maven/com.example/app@1.0", components.get(1).getPurl());
+        Assert.assertEquals("app-2", components.get(2).getBomRef());
+        Assert.assertEquals("pkg:maven/com.example/other-app@2.0", components.get(2).getPurl());
+
+        final List<Dependency> dependencies = actual.getDependencies();
+        Assert.assertEquals(3, dependencies.size());
+        Assert.assertEquals("app", dependencies.get(0).getRef());
+        Assert.assertEquals("codec", dependencies.get(0).getDependencies().get(0).getRef());
+        Assert.assertEquals("app-2", dependencies.get(1).getRef());
+        Assert.assertEquals("codec", dependencies.get(1).getDependencies().get(0).getRef());
+        Assert.assertEquals("codec", dependencies.get(2).getRef());
+        Assert.assertTrue(dependencies.get(2).getDependencies().isEmpty());
+    }
+
+
+
+    @Test
+    public void testMergeWithoutPurl()
+    {
+        final StandardBom first = new StandardBom();
+        final BomEntry file1 = createComponent("file1", null);
+        file1.setSha1(SHA1);
+        first.addComponent(file1);
+        first.addComponent(new BomEntry());   // not identifiable
+        final StandardBom second = new StandardBom();
+        final BomEntry file2 = createComponent("file1", null);
+        file2.setSha1(SHA1.toUpperCase());
+        second.addComponent(file2);
+        final BomEntry file3 = createComponent("file1", null);
+        file3.setSha1(MD5 + "12345678");
+        second.addComponent(file3);
+        second.addComponent(new BomEntry());
+
+        final StandardBom actual = new StandardBomMerger(false).merge(Arrays.asList(first, second));
+
+        final List<BomEntry> components = actual.getComponents();
+        Assert.assertEquals(4, components.size());
+        Assert.assertSame(file1.getCycloneDxComponent(), components.get(0).getCycloneDxComponent());
+        Assert.assertNull(components.get(1).getBomRef());
+        Assert.assertEquals("file1-2", components.get(2).getBomRef());
+        Assert.assertNull(components.get(3).getBomRef());
+    }
+
+
+
+    @Test
+    public void testMergeDifferentHashAlgorithms()
+    {
+        final StandardBom first = new StandardBom();
+        final BomEntry file1 = createComponent("file1", null);
+        file1.setSha512("cf83e1357eefb8bdf1542850d66d8007d620e4050b5715dc83f4a921d36ce9ce47d0d13c5d85f2b0ff83"
+            + "18d2877eec2f63b931bd47417a81a538327af927da3e");
+        file1.setSha1(SHA1);
+        first.addComponent(file1);
+        final StandardBom second = new StandardBom();
+        final BomEntry file2 = createComponent("file2", null);
+        file2.setName("file1");
+        file2.setSha1(SHA1);
+        file2.setMd5(MD5);
+        second.addComponent(file2);
+        final BomEntry file3 = createComponent("file3", null);
+        file3.setName("file1");
+        file3.setMd5(MD5);
+        second.addComponent(file3);
+        final BomEntry file4 = createComponent("file4", null);
+        file4.setName("file1");
+        file4.setSha256("ca978112ca1bbdcafac231b39a23dc4da786eff8147c4e72b9807785afee48bb");
+        second.addComponent(file4);
+        SbomTestData.addDependency(second, "file4", "file2", "file3");
+
+        final StandardBom actual = new StandardBomMerger(false).merge(Arrays.asList(first, second));
+
+        final List<BomEntry> components = actual.getComponents();
+        Assert.assertEquals(2, components.size());
+        Assert.assertSame(file1.getCycloneDxComponent(), components.get(0).getCycloneDxComponent());
+        Assert.assertEquals(MD5, components.get(0).getMd5());
+        Assert.assertEquals("file4", components.get(1).getBomRef());
+        Assert.assertEquals(Arrays.asList("file1"), dependsOn(actual.getDependencies().get(0)));
+    }
+
+
+
+    private static List<String> dependsOn(final Dependency pDependency)
+    {
+        final List<String> result = new ArrayList<>();
+        for (Dependency target : pDependency.getDependencies()) {
+            result.add(target.getRef());
+        }
+        return result;
+    }
+
+
+
+    @Test
+    public void testParallelSameAsSequential()
+    {
+        final List<StandardBom> inputs1 = new ArrayList<>();
+        final List<StandardBom> inputs2 = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            inputs1.add(createInput(i));
+            inputs2.add(createInput(i));
+        }
+
+        final StandardBom header1 = new StandardBom();
+        final StandardBom header2 = new StandardBom();
+        header2.setSerialNumber(header1.getSerialNumber());
+        header2.setTimestamp(header1.getTimestamp());
+        final StandardBomParser parser = new StandardBomParser();
+        final String sequential = parser.stringify(new StandardBomMerger(false).merge(header1, inputs1));
+        final String parallel = parser.stringify(new StandardBomMerger(true).merge(header2, inputs2));
+
+        Assert.assertEquals(sequential, parallel);
+        Assert.assertEquals(145, header2.getComponents().size());
+    }
+
+
+
+    private static StandardBom createInput(final int pIndex)
+    {
+        final StandardBom result = new StandardBom();
+        for (int c = 0; c < 50; c++) {
+            final int number = pIndex * 5 + c;   // 45 of 50 components are also in the next input
+            final String ref = "ref" + c;
+            final BomEntry component = createComponent(ref, "pkg:maven/com.example/lib" + number + "@1.0");
+            component.addLicense(SbomTestData.createLicense(pIndex % 2 == 0 ? "MIT" : "Apache-2.0"));
+            result.addComponent(component);
+            if (c > 0) {
+                SbomTestData.addDependency(result, ref, "ref" + (c - 1));
+            }
+        }
+        return result;
+    }
+}
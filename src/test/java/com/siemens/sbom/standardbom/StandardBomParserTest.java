@@ -9,20 +9,34 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import javax.annotation.Nonnull;
 
 import com.github.packageurl.MalformedPackageURLException;
@@ -33,6 +47,7 @@ import org.cyclonedx.model.Component;
 import org.cyclonedx.model.License;
 import org.cyclonedx.model.OrganizationalContact;
 import org.cyclonedx.model.OrganizationalEntity;
+import org.cyclonedx.model.Property;
 import org.junit.Assert;
 import org.junit.Assume;
 import org.junit.Rule;
@@ -41,6 +56,7 @@ import org.junit.rules.TemporaryFolder;
 
 import com.siemens.sbom.standardbom.internal.VersionUtil;
 import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.ExternalComponent;
 import com.siemens.sbom.standardbom.model.SbomNature;
 import com.siemens.sbom.standardbom.model.SourceArtifactRefLocal;
 import com.siemens.sbom.standardbom.model.SourceArtifactRefUrl;
@@ -132,6 +148,64 @@ public class StandardBomParserTest
 
 
 
+    @Test(expected = NoSuchFileException.class)
+    public void testReadPathNotFound()
+        throws IOException, ParseException
+    {
+        new StandardBomParser().parse(Paths.get("NON-EXISTENT.FILE"));
+        Assert.fail("Expected exception was not thrown");
+    }
+
+
+
+    @Test
+    public void testReadSunnyDayViaPathAndBuffer()
+        throws IOException, URISyntaxException, ParseException
+    {
+        @SuppressWarnings("ConstantConditions")
+        final Path jsonFile = Paths.get(getClass().getResource("full-valid.cdx.json").toURI());
+        final StandardBomParser parser = new StandardBomParser();
+        final String expected = parser.stringify(parser.parse(jsonFile.toFile()));
+
+        Assert.assertEquals(expected, parser.stringify(parser.parse(jsonFile)));
+
+        final byte[] bytes = Files.readAllBytes(jsonFile);
+        final ByteBuffer heapBuffer = ByteBuffer.allocate(bytes.length + 20);
+        heapBuffer.position(10);
+        heapBuffer.put(bytes);
+        heapBuffer.limit(heapBuffer.position());
+        heapBuffer.position(10);
+        final ByteBuffer slice = heapBuffer.slice();
+        Assert.assertEquals(expected, parser.stringify(parser.parse(slice)));
+        Assert.assertEquals(0, slice.position());
+
+        try (FileChannel channel = FileChannel.open(jsonFile)) {
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Assert.assertEquals(expected, parser.stringify(parser.parse(mapped)));
+            Assert.assertEquals(0, mapped.position());
+        }
+    }
+
+
+
+    @Test(expected = ParseException.class)
+    public void testReadEmptyBuffer()
+        throws ParseException
+    {
+        new StandardBomParser().parse(ByteBuffer.allocateDirect(0));
+    }
+
+
+
+    @Test(expected = ParseException.class)
+    public void testReadMalformedBuffer()
+        throws ParseException
+    {
+        new StandardBomParser().parse(ByteBuffer.wrap("{\"bomFormat\": ".getBytes(StandardCharsets.UTF_8)));
+    }
+
+
+
     @Test
     public void testWriteToFileSunnyDay()
         throws IOException, URISyntaxException, ParseException
@@ -193,6 +267,89 @@ public class StandardBomParserTest
 
 
 
+    @Test
+    public void testSaveAtomic()
+        throws IOException, MalformedPackageURLException, ParseException
+    {
+        final StandardBomParser parser = new StandardBomParser();
+        final StandardBom sbom = new StandardBom();
+        sbom.addComponent(buildComponentEntry());
+        final Path outputFile = tempDir.getRoot().toPath().resolve("atomic.cdx.json");
+        Files.write(outputFile, "old content".getBytes(StandardCharsets.UTF_8));
+
+        for (SaveMode mode : SaveMode.values()) {
+            parser.save(sbom, outputFile, Compression.None, OutputStyle.Pretty, mode);
+            Assert.assertEquals(parser.stringify(sbom),
+                new String(Files.readAllBytes(outputFile), StandardCharsets.UTF_8));
+        }
+        parser.save(sbom, outputFile, Compression.Gzip, OutputStyle.Compact, SaveMode.Durable);
+        Assert.assertEquals(parser.stringify(sbom), parser.stringify(parser.parse(outputFile)));
+
+        final String[] files = tempDir.getRoot().list();
+        Assert.assertNotNull(files);
+        Assert.assertEquals(Arrays.asList("atomic.cdx.json"), Arrays.asList(files));
+    }
+
+
+
+    @Test
+    public void testSaveIfChanged()
+        throws IOException
+    {
+        final StandardBomParser parser = new StandardBomParser();
+        final StandardBom sbom = new StandardBom();
+        final BomEntry component = new BomEntry();
+        component.setName("a");
+        sbom.addComponent(component);
+        final Path outputFile = tempDir.getRoot().toPath().resolve("if-changed.cdx.json");
+        final FileTime oldTime = FileTime.fromMillis(1657292400000L);
+
+        Assert.assertTrue(parser.saveIfChanged(sbom, outputFile));
+        Files.setLastModifiedTime(outputFile, oldTime);
+        Assert.assertFalse(parser.saveIfChanged(sbom, outputFile));
+        Assert.assertEquals(oldTime, Files.getLastModifiedTime(outputFile));
+
+        component.setName("b");   // same size, different content
+        Assert.assertTrue(parser.saveIfChanged(sbom, outputFile));
+        Assert.assertEquals(parser.stringify(sbom), new String(Files.readAllBytes(outputFile), StandardCharsets.UTF_8));
+
+        component.setName("bb");
+        Assert.assertTrue(parser.saveIfChanged(sbom, outputFile, Compression.Gzip, OutputStyle.Compact,
+            SaveMode.Atomic));
+        Files.setLastModifiedTime(outputFile, oldTime);
+        Assert.assertFalse(parser.saveIfChanged(sbom, outputFile, Compression.Gzip, OutputStyle.Compact,
+            SaveMode.Atomic));
+        Assert.assertEquals(oldTime, Files.getLastModifiedTime(outputFile));
+        Assert.assertTrue(parser.saveIfChanged(sbom, outputFile));
+    }
+
+
+
+    @Test
+    public void testSaveAtomicFailed()
+        throws IOException
+    {
+        final Path outputFile = tempDir.getRoot().toPath().resolve("atomic-failed.cdx.json");
+        Files.write(outputFile, "old content".getBytes(StandardCharsets.UTF_8));
+
+        for (SaveMode mode : new SaveMode[]{SaveMode.Atomic, SaveMode.Durable}) {
+            try {
+                new StandardBomParser().save(new BrokenBom(), outputFile, Compression.None, OutputStyle.Pretty, mode);
+                Assert.fail("Expected exception was not thrown");
+            }
+            catch (StandardBomException e) {
+                // expected
+            }
+            Assert.assertEquals("old content", new String(Files.readAllBytes(outputFile), StandardCharsets.UTF_8));
+        }
+
+        final String[] files = tempDir.getRoot().list();
+        Assert.assertNotNull(files);
+        Assert.assertEquals(Arrays.asList("atomic-failed.cdx.json"), Arrays.asList(files));
+    }
+
+
+
     @Test(expected = IOException.class)
     public void testWritePermissionDenied()
         throws IOException
@@ -208,7 +365,6 @@ public class StandardBomParserTest
 
 
 
-    @SuppressWarnings("SameParameterValue")
     private StandardBom parseFile(final String pFilename)
         throws IOException, ParseException
     {
@@ -263,6 +419,179 @@ public class StandardBomParserTest
 
 
 
+    @Test
+    public void testStringifyDoesNotModifyBom()
+        throws MalformedPackageURLException
+    {
+        final StandardBom sbom = new StandardBom();
+        final BomEntry component = buildComponentEntry();
+        sbom.addComponent(component);
+        final ExternalComponent extComp = new ExternalComponent();
+        extComp.setUrl("pkg:deb/debian/keycloak@4.8.3.Final");
+        sbom.addExternalComponent(extComp);
+
+        final List<Property> propsBefore = new ArrayList<>(component.getCycloneDxComponent().getProperties());
+        final String json = new StandardBomParser().stringify(sbom);
+
+        Assert.assertTrue(json.contains("\"url\" : \"pkg:deb/debian/keycloak@4.8.3.Final\""));
+        Assert.assertEquals(propsBefore, component.getCycloneDxComponent().getProperties());
+        Assert.assertEquals("line1\nline2\nline3", component.getThirdPartyNotices());
+        Assert.assertEquals("pkg:deb/debian/keycloak@4.8.3.Final", extComp.getCycloneDxRef().getUrl());
+        Assert.assertEquals(json, new StandardBomParser().stringify(sbom));
+    }
+
+
+
+    @Test
+    public void testStringifyConcurrently()
+        throws IOException, ParseException, InterruptedException, ExecutionException
+    {
+        final StandardBom sbom = parseFile("full-valid.cdx.json");
+        Assert.assertNotNull(sbom);
+        Assert.assertNotNull(sbom);
+        final StandardBomParser parser = new StandardBomParser();
+        final String expected = parser.stringify(sbom);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                results.add(executor.submit(() -> parser.stringify(sbom)));
+            }
+            for (Future<String> result : results) {
+                Assert.assertEquals(expected, result.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+
+
+    @Test
+    public void testParseConcurrently()
+        throws IOException, URISyntaxException, ParseException, InterruptedException, ExecutionException
+    {
+        @SuppressWarnings("ConstantConditions")
+        final Path jsonFile = Paths.get(getClass().getResource("full-valid.cdx.json").toURI());
+        final byte[] jsonBytes = Files.readAllBytes(jsonFile);
+        final StandardBomParser parser = new StandardBomParser();
+        final String expected = parser.stringify(parser.parse(jsonFile));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                final boolean viaBuffer = i % 2 == 0;
+                results.add(executor.submit(() -> parser.stringify(
+                    viaBuffer ? parser.parse(ByteBuffer.wrap(jsonBytes)) : parser.parse(jsonFile))));
+            }
+            for (Future<String> result : results) {
+                Assert.assertEquals(expected, result.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+
+
+    @Test
+    public void testParseXml()
+        throws IOException, ParseException
+    {
+        final byte[] xmlBytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<bom xmlns=\"http://cyclonedx.org/schema/bom/1.4\" version=\"1\">\n"
+            + "  <components>\n"
+            + "    <component type=\"library\"><name>foo</name><version>1.0</version></component>\n"
+            + "  </components>\n"
+            + "</bom>\n").getBytes(StandardCharsets.UTF_8);
+        final StandardBomParser parser = new StandardBomParser();
+
+        final List<StandardBom> parsed = new ArrayList<>();
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(xmlBytes)) {
+            parsed.add(parser.parse(bais));
+        }
+        parsed.add(parser.parse(ByteBuffer.wrap(xmlBytes)));
+        final ByteBuffer direct = ByteBuffer.allocateDirect(xmlBytes.length);
+        direct.put(xmlBytes).flip();
+        parsed.add(parser.parse(direct));
+
+        for (StandardBom sbom : parsed) {
+            Assert.assertEquals("1.4", sbom.getCycloneDxBom().getSpecVersion());
+            Assert.assertEquals(1, sbom.getComponents().size());
+            Assert.assertEquals("foo", sbom.getComponents().get(0).getName());
+        }
+    }
+
+
+
+    @Test
+    public void testGzipRoundTrip()
+        throws IOException, ParseException
+    {
+        final StandardBomParser parser = new StandardBomParser();
+        final StandardBom sbom = parseFile("full-valid.cdx.json");
+        Assert.assertNotNull(sbom);
+        final String expected = parser.stringify(sbom);
+        final Path plainFile = tempDir.getRoot().toPath().resolve("plain.cdx.json");
+        final Path gzipFile = tempDir.getRoot().toPath().resolve("compressed.cdx.json.gz");
+
+        parser.save(sbom, plainFile, Compression.None);
+        parser.save(sbom, gzipFile, Compression.Gzip);
+
+        Assert.assertEquals(expected, new String(Files.readAllBytes(plainFile), StandardCharsets.UTF_8));
+        final byte[] compressed = Files.readAllBytes(gzipFile);
+        Assert.assertTrue(compressed.length < Files.size(plainFile));
+        Assert.assertEquals(GZIPInputStream.GZIP_MAGIC, (compressed[0] & 0xff) | ((compressed[1] & 0xff) << 8));
+
+        Assert.assertEquals(expected, parser.stringify(parser.parse(gzipFile)));
+        Assert.assertEquals(expected, parser.stringify(parser.parse(gzipFile.toFile())));
+        Assert.assertEquals(sbom.getSerialNumber(), parser.probe(gzipFile).getSerialNumber());
+        try (StandardBomReader reader = parser.streamComponents(gzipFile)) {
+            Assert.assertEquals(sbom.getComponents().size(), reader.stream().count());
+        }
+    }
+
+
+
+    @Test
+    public void testParseGzipXml()
+        throws IOException, ParseException
+    {
+        final Path gzipFile = tempDir.getRoot().toPath().resolve("bom.xml.gz");
+        try (OutputStream os = new GZIPOutputStream(Files.newOutputStream(gzipFile))) {
+            os.write(("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<bom xmlns=\"http://cyclonedx.org/schema/bom/1.4\" version=\"1\">\n"
+                + "  <components>\n"
+                + "    <component type=\"library\"><name>foo</name><version>1.0</version></component>\n"
+                + "  </components>\n"
+                + "</bom>\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        final StandardBom sbom = new StandardBomParser().parse(gzipFile);
+
+        Assert.assertEquals("1.4", sbom.getCycloneDxBom().getSpecVersion());
+        Assert.assertEquals("foo", sbom.getComponents().get(0).getName());
+    }
+
+
+
+    @Test(expected = ParseException.class)
+    public void testParseGzipMalformed()
+        throws IOException, ParseException
+    {
+        final Path gzipFile = tempDir.getRoot().toPath().resolve("malformed.cdx.json.gz");
+        try (OutputStream os = new GZIPOutputStream(Files.newOutputStream(gzipFile))) {
+            os.write("{\"bomFormat\": ".getBytes(StandardCharsets.UTF_8));
+        }
+        new StandardBomParser().parse(gzipFile);
+    }
+
+
+
     private BomEntry buildComponentEntry()
         throws MalformedPackageURLException
     {
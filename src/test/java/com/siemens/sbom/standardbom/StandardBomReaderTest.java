@@ -0,0 +1,227 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.cyclonedx.exception.ParseException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Unit tests of {@link StandardBomReader}.
+ */
+public class StandardBomReaderTest
+{
+    @Rule
+    public final TemporaryFolder tempDir = new TemporaryFolder();
+
+
+
+    private Path getResourcePath(final String pResourceName)
+        throws URISyntaxException
+    {
+        //noinspection ConstantConditions
+        return Paths.get(getClass().getResource(pResourceName).toURI());
+    }
+
+
+
+    @Test
+    public void testStreamSunnyDay()
+        throws IOException, URISyntaxException, ParseException
+    {
+        final Path input = getResourcePath("full-valid.cdx.json");
+        final StandardBom expected = new StandardBomParser().parse(input.toFile());
+
+        final List<BomEntry> actual = new ArrayList<>();
+        try (StandardBomReader reader = new StandardBomParser().streamComponents(input)) {
+            final StandardBom header = reader.getHeader();
+            Assert.assertEquals(new Date(1657292400000L), header.getTimestamp());
+            Assert.assertEquals(expected.getSerialNumber(), header.getSerialNumber());
+            Assert.assertTrue(header.getComponents().isEmpty());
+
+            while (reader.hasNext()) {
+                actual.add(reader.next());
+            }
+
+            Assert.assertEquals("${formatVersion}", header.getStandardBomVersion());
+            Assert.assertEquals(expected.getDependencies().size(), header.getDependencies().size());
+            Assert.assertEquals(1, header.getExternalComponents().size());
+        }
+
+        Assert.assertEquals(expected.getComponents().size(), actual.size());
+        for (int i = 0; i < actual.size(); i++) {
+            final BomEntry exp = expected.getComponents().get(i);
+            Assert.assertEquals(exp.getBomRef(), actual.get(i).getBomRef());
+            Assert.assertEquals(exp.getSha1(), actual.get(i).getSha1());
+            Assert.assertEquals(exp.getCopyright(), actual.get(i).getCopyright());
+            Assert.assertEquals(exp.getThirdPartyNotices(), actual.get(i).getThirdPartyNotices());
+        }
+    }
+
+
+
+    @Test
+    public void testStreamApi()
+        throws IOException, URISyntaxException
+    {
+        final Path input = getResourcePath("full-valid.cdx.json");
+        List<String> names = null;
+        try (Stream<BomEntry> stream = new StandardBomParser().streamComponents(input).stream()) {
+            names = stream.map(BomEntry::getName).collect(Collectors.toList());
+        }
+        Assert.assertEquals(9, names.size());
+        Assert.assertEquals("commons-codec", names.get(0));
+    }
+
+
+
+    @Test
+    public void testComponentsBeforeMetadata()
+        throws IOException
+    {
+        final File input = tempDir.newFile("reordered.cdx.json");
+        Files.write(input.toPath(), ("{\"bomFormat\": \"CycloneDX\", \"specVersion\": \"1.6\", \"components\": ["
+            + "{\"type\": \"library\", \"name\": \"a\"}, {\"type\": \"library\", \"name\": \"b\"}],"
+            + "\"metadata\": {\"timestamp\": \"2022-07-08T15:00:00Z\"}}").getBytes(StandardCharsets.UTF_8));
+
+        try (StandardBomReader reader = new StandardBomParser().streamComponents(input.toPath())) {
+            Assert.assertNull(reader.getHeader().getCycloneDxBom().getMetadata());
+            Assert.assertEquals("a", reader.next().getName());
+            Assert.assertEquals("b", reader.next().getName());
+            Assert.assertFalse(reader.hasNext());
+            Assert.assertEquals(new Date(1657292400000L), reader.getHeader().getTimestamp());
+        }
+    }
+
+
+
+    @Test
+    public void testNoComponents()
+        throws IOException
+    {
+        final File input = tempDir.newFile("empty.cdx.json");
+        Files.write(input.toPath(), "{\"bomFormat\": \"CycloneDX\", \"specVersion\": \"1.6\", \"serialNumber\": \"sn\"}"
+            .getBytes(StandardCharsets.UTF_8));
+
+        try (StandardBomReader reader = new StandardBomParser().streamComponents(input.toPath())) {
+            Assert.assertFalse(reader.hasNext());
+            Assert.assertEquals("sn", reader.getHeader().getSerialNumber());
+        }
+    }
+
+
+
+    @Test(expected = NoSuchElementException.class)
+    public void testNextAfterEnd()
+        throws IOException
+    {
+        final File input = tempDir.newFile("empty2.cdx.json");
+        Files.write(input.toPath(), "{\"components\": []}".getBytes(StandardCharsets.UTF_8));
+
+        try (StandardBomReader reader = new StandardBomParser().streamComponents(input.toPath())) {
+            reader.next();
+        }
+    }
+
+
+
+    @Test(expected = StandardBomException.class)
+    public void testNotJson()
+        throws IOException
+    {
+        final File input = tempDir.newFile("bom.xml");
+        Files.write(input.toPath(), "[]".getBytes(StandardCharsets.UTF_8));
+        new StandardBomParser().streamComponents(input.toPath()).close();
+    }
+
+
+
+    @Test
+    public void testProbe()
+        throws IOException, URISyntaxException, ParseException
+    {
+        for (String resourceName : new String[]{"full-valid.cdx.json", "full-valid-1.4.cdx.json"}) {
+            final Path input = getResourcePath(resourceName);
+            final StandardBom expected = new StandardBomParser().parse(input);
+
+            final StandardBom actual = new StandardBomParser().probe(input);
+
+            Assert.assertEquals(expected.getStandardBomVersion(), actual.getStandardBomVersion());
+            Assert.assertEquals(expected.getProfile(), actual.getProfile());
+            Assert.assertEquals(expected.getSbomNature(), actual.getSbomNature());
+            Assert.assertEquals(expected.getSerialNumber(), actual.getSerialNumber());
+            Assert.assertEquals(expected.getTimestamp(), actual.getTimestamp());
+            Assert.assertTrue(actual.getComponents().isEmpty());
+            Assert.assertTrue(actual.getDependencies().isEmpty());
+        }
+    }
+
+
+
+    @Test
+    public void testProbeStopsEarly()
+        throws IOException
+    {
+        final File input = tempDir.newFile("truncated.cdx.json");
+        Files.write(input.toPath(), ("{\"serialNumber\": \"sn\", \"definitions\": {\"standards\": [{\"name\": "
+            + "\"Standard BOM\", \"version\": \"3.0.0\", \"owner\": \"Siemens AG\"}]}, \"metadata\": "
+            + "{\"timestamp\": \"2022-07-08T15:00:00Z\"}, \"components\": [{\"type\": \"libr")
+            .getBytes(StandardCharsets.UTF_8));
+
+        final StandardBom actual = new StandardBomParser().probe(input.toPath());
+
+        Assert.assertEquals("sn", actual.getSerialNumber());
+        Assert.assertEquals("3.0.0", actual.getStandardBomVersion());
+        Assert.assertEquals(new Date(1657292400000L), actual.getTimestamp());
+    }
+
+
+
+    @Test
+    public void testProbeStopsEarlyWithoutDefinitions()
+        throws IOException
+    {
+        final File input = tempDir.newFile("truncated-1.4.cdx.json");
+        Files.write(input.toPath(), ("{\"specVersion\": \"1.4\", \"serialNumber\": \"sn\", \"metadata\": "
+            + "{\"tools\": [{\"vendor\": \"Siemens AG\", \"name\": \"standard-bom\", \"version\": \"2.0.0\"}]}, "
+            + "\"components\": [{\"type\": \"libr").getBytes(StandardCharsets.UTF_8));
+
+        final StandardBom actual = new StandardBomParser().probe(input.toPath());
+
+        Assert.assertEquals("sn", actual.getSerialNumber());
+        Assert.assertEquals("2.0.0", actual.getStandardBomVersion());
+    }
+
+
+
+    @Test(expected = StandardBomException.class)
+    public void testProbeNotJson()
+        throws IOException
+    {
+        final File input = tempDir.newFile("probe.json");
+        Files.write(input.toPath(), "[]".getBytes(StandardCharsets.UTF_8));
+        new StandardBomParser().probe(input.toPath());
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.cyclonedx.model.Component;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Unit tests of {@link StandardBomSorter}.
+ */
+public class StandardBomSorterTest
+{
+    private static final String[] VALUES = {null, "a", "b", "B", "c1", "c10", "c2"};
+
+    private static final String[] SHA1S = {null, "3f18e1aa31031d89db6f01ba05d501258ce69d2c",
+        "226247b40160f2892fa4c7851b5b913d5d10912d"};
+
+    private static final String[] MD5S = {null, "e4a4c8b5e2e8e3f6b2f1a8c1d2e3f4a5", "0cc175b9c0f1b6a831c399e269772661"};
+
+    private static final String[] PURLS = {null, "pkg:maven/a/b@1", "pkg:maven/a/b@2"};
+
+
+
+    private List<BomEntry> buildRandomEntries(final int pCount)
+    {
+        final Random random = new Random(42L);
+        final Component.Type[] types = {null, Component.Type.LIBRARY, Component.Type.APPLICATION, Component.Type.FILE};
+        final List<BomEntry> result = new ArrayList<>();
+        for (int i = 0; i < pCount; i++) {
+            final BomEntry entry = new BomEntry();
+            entry.setType(types[random.nextInt(types.length)]);
+            entry.setGroup(VALUES[random.nextInt(VALUES.length)]);
+            entry.setName(VALUES[random.nextInt(VALUES.length)]);
+            entry.setFilename(VALUES[random.nextInt(VALUES.length)]);
+            entry.setVersion(VALUES[random.nextInt(VALUES.length)]);
+            entry.setSha1(SHA1S[random.nextInt(SHA1S.length)]);
+            entry.setPurl(PURLS[random.nextInt(PURLS.length)]);
+            entry.setMd5(MD5S[random.nextInt(MD5S.length)]);
+            entry.setRelativePath(VALUES[random.nextInt(VALUES.length)]);
+            result.add(entry);
+        }
+        return result;
+    }
+
+
+
+    @Test
+    public void testSameOrderAsComparator()
+    {
+        final List<BomEntry> expected = buildRandomEntries(20000);
+        expected.add(null);
+        expected.add(0, null);
+        expected.add(expected.get(7));  // the same object twice
+        final List<BomEntry> sequential = new ArrayList<>(expected);
+        final List<BomEntry> parallel = new ArrayList<>(expected);
+
+        expected.sort(new BomEntrySortComparator());
+        StandardBomSorter.sort(sequential, false);
+        StandardBomSorter.sort(parallel, true);
+
+        assertSameElements(expected, sequential);
+        assertSameElements(expected, parallel);
+    }
+
+
+
+    @Test
+    public void testSameOrderAsDeterministicComparator()
+    {
+        final List<BomEntry> expected = buildRandomEntries(20000);
+        expected.add(null);
+        final List<BomEntry> sequential = new ArrayList<>(expected);
+        final List<BomEntry> parallel = new ArrayList<>(expected);
+
+        expected.sort(new BomEntrySortComparator(true));
+        StandardBomSorter.sort(sequential, false, true);
+        StandardBomSorter.sort(parallel, true, true);
+
+        assertSameElements(expected, sequential);
+        assertSameElements(expected, parallel);
+    }
+
+
+
+    @Test
+    public void testDeterministicOutput()
+    {
+        final StandardBom sbom1 = new StandardBom();
+        final StandardBom sbom2 = new StandardBom();
+        final List<BomEntry> entries1 = buildRandomEntries(1000);
+        final List<BomEntry> entries2 = buildRandomEntries(1000);
+        Collections.reverse(entries2);
+        for (int i = 0; i < entries1.size(); i++) {
+            sbom1.addComponent(entries1.get(i));
+            sbom2.addComponent(entries2.get(i));
+        }
+
+        StandardBomSorter.sort(sbom1, false, true);
+        StandardBomSorter.sort(sbom2, true, true);
+
+        final StandardBomParser parser = new StandardBomParser();
+        Assert.assertEquals(parser.stringify(sbom1), parser.stringify(sbom2));
+    }
+
+
+
+    private void assertSameElements(final List<BomEntry> pExpected, final List<BomEntry> pActual)
+    {
+        Assert.assertEquals(pExpected.size(), pActual.size());
+        for (int i = 0; i < pExpected.size(); i++) {
+            Assert.assertSame("element " + i, pExpected.get(i), pActual.get(i));
+        }
+    }
+
+
+
+    @Test
+    public void testSortBom()
+    {
+        final StandardBom sbom = new StandardBom();
+        for (BomEntry entry : buildRandomEntries(1000)) {
+            sbom.addComponent(entry);
+        }
+        final List<BomEntry> expected = new ArrayList<>(sbom.getComponents());
+        expected.sort(new BomEntrySortComparator());
+
+        StandardBomSorter.sort(sbom, true);
+
+        final List<BomEntry> actual = sbom.getComponents();
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertSame(expected.get(i).getCycloneDxComponent(), actual.get(i).getCycloneDxComponent());
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.model.Dependency;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.ExternalComponent;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Unit tests of {@link StandardBomWriter}.
+ */
+public class StandardBomWriterTest
+{
+    @Rule
+    public final TemporaryFolder tempDir = new TemporaryFolder();
+
+
+
+    private StandardBom parseResource(final String pResourceName)
+        throws IOException, ParseException
+    {
+        try (InputStream is = getClass().getResourceAsStream(pResourceName)) {
+            return new StandardBomParser().parse(is);
+        }
+    }
+
+
+
+    @Test
+    public void testSameAsStringify()
+        throws IOException, ParseException
+    {
+        final String expected = new StandardBomParser().stringify(parseResource("full-valid.cdx.json"));
+
+        final StandardBom header = parseResource("full-valid.cdx.json");
+        final List<BomEntry> components = header.getComponents();
+        final List<ExternalComponent> externalComponents = header.getExternalComponents();
+        final List<Dependency> dependencies = new ArrayList<>(header.getDependencies());
+        header.getCycloneDxBom().setComponents(null);
+        header.getCycloneDxBom().setExternalReferences(null);
+        header.getCycloneDxBom().getDependencies().clear();
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (StandardBomWriter writer = new StandardBomWriter(baos, header)) {
+            for (BomEntry component : components) {
+                writer.addComponent(component);
+            }
+            for (ExternalComponent externalComponent : externalComponents) {
+                writer.addExternalComponent(externalComponent);
+            }
+            for (Dependency dependency : dependencies) {
+                writer.addDependency(dependency);
+            }
+        }
+
+        Assert.assertEquals(expected, new String(baos.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+
+
+    @Test
+    public void testHeaderOnly()
+        throws IOException, ParseException
+    {
+        final String expected = new StandardBomParser().stringify(parseResource("full-valid.cdx.json"));
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new StandardBomWriter(baos, parseResource("full-valid.cdx.json")).close();
+
+        Assert.assertEquals(expected, new String(baos.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+
+
+    @Test
+    public void testEmptyBom()
+        throws IOException
+    {
+        final StandardBom sbom = new StandardBom();
+        final String expected = new StandardBomParser().stringify(sbom);
+
+        final File outputFile = tempDir.newFile("empty.cdx.json");
+        try (FileChannel channel = FileChannel.open(outputFile.toPath(), StandardOpenOption.WRITE)) {
+            new StandardBomWriter(channel, sbom).close();
+        }
+
+        Assert.assertEquals(expected, new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8));
+    }
+
+
+
+    @Test
+    public void testComponentsAppendedToHeader()
+        throws IOException
+    {
+        final StandardBom sbom = new StandardBom();
+        final BomEntry component1 = new BomEntry();
+        component1.setName("component1");
+        sbom.addComponent(component1);
+        final BomEntry component2 = new BomEntry();
+        component2.setName("component2");
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (StandardBomWriter writer = new StandardBomWriter(baos, sbom)) {
+            writer.addComponent(component2);
+        }
+
+        sbom.addComponent(component2);
+        Assert.assertEquals(new StandardBomParser().stringify(sbom),
+            new String(baos.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+
+
+    @Test
+    public void testCompact()
+        throws IOException, ParseException
+    {
+        final StandardBomParser parser = new StandardBomParser();
+        final StandardBom sbom = parseResource("full-valid.cdx.json");
+        final String pretty = parser.stringify(sbom);
+        final String compact = parser.stringify(sbom, OutputStyle.Compact);
+
+        Assert.assertFalse(compact.contains("\n"));
+        Assert.assertTrue(compact.startsWith("{\"$schema\":\"http://cyclonedx.org/schema/bom-1.6.schema.json\","
+            + "\"bomFormat\":\"CycloneDX\","));
+        Assert.assertTrue(compact.length() < pretty.length() * 3 / 4);
+        final ObjectMapper mapper = new ObjectMapper();
+        Assert.assertEquals(mapper.readTree(pretty), mapper.readTree(compact));
+        try (InputStream is = new ByteArrayInputStream(compact.getBytes(StandardCharsets.UTF_8))) {
+            Assert.assertEquals(pretty, parser.stringify(parser.parse(is)));
+        }
+
+        final StandardBom header = parseResource("full-valid.cdx.json");
+        final List<BomEntry> components = header.getComponents();
+        header.getCycloneDxBom().setComponents(null);
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (StandardBomWriter writer = new StandardBomWriter(baos, header, OutputStyle.Compact)) {
+            for (BomEntry component : components) {
+                writer.addComponent(component);
+            }
+        }
+        Assert.assertEquals(compact, new String(baos.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+
+
+    @Test(expected = IllegalStateException.class)
+    public void testWrongOrder()
+        throws IOException
+    {
+        try (StandardBomWriter writer = new StandardBomWriter(new ByteArrayOutputStream(), new StandardBom())) {
+            final Dependency dependency = new Dependency("ref");
+            writer.addDependency(dependency);
+            writer.addComponent(new BomEntry());
+        }
+    }
+
+
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddAfterClose()
+        throws IOException
+    {
+        final StandardBomWriter writer = new StandardBomWriter(new ByteArrayOutputStream(), new StandardBom());
+        writer.close();
+        writer.addComponent(new BomEntry());
+    }
+}
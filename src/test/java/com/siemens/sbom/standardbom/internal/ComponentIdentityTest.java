@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Hash;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * Some unit tests of {@link ComponentIdentity}.
+ */
+public class ComponentIdentityTest
+{
+    @Test
+    public void testNormalizePurl()
+    {
+        final String expected = "pkg:maven/org.example/Lib@1.0?classifier=sources&type=jar#sub/path";
+        Assert.assertEquals(expected,
+            ComponentIdentity.normalizePurl(" pkg:Maven/org.example/Lib@1.0?type=jar&classifier=sources#sub/path "));
+        Assert.assertEquals(expected, ComponentIdentity.normalizePurl(expected));
+
+        final String plain = "pkg:npm/left-pad@1.3.0";
+        Assert.assertSame(plain, ComponentIdentity.normalizePurl(plain));
+    }
+
+
+
+    @Test
+    public void testKeyOf()
+    {
+        final Component withPurl = new Component();
+        withPurl.setPurl("pkg:npm/left-pad@1.3.0");
+        withPurl.setName("left-pad");
+        Assert.assertEquals("pkg:npm/left-pad@1.3.0", ComponentIdentity.keyOf(withPurl));
+
+        final Component withSha1 = new Component();
+        withSha1.setName("file.dll");
+        withSha1.addHash(new Hash(Hash.Algorithm.MD5, "303baf002ce6d382198090aedd9d79a2"));
+        withSha1.addHash(new Hash(Hash.Algorithm.SHA1, "49D94806B6E3DC933DACBD8ACB0FDBAB8EBD1E5D"));
+        final Component withOtherMd5 = new Component();
+        withOtherMd5.setName("file.dll");
+        withOtherMd5.addHash(new Hash(Hash.Algorithm.MD5, "d9684675e618f302440874d25332e62a"));
+        withOtherMd5.addHash(new Hash(Hash.Algorithm.SHA1, "49d94806b6e3dc933dacbd8acb0fdbab8ebd1e5d"));
+        Assert.assertEquals(ComponentIdentity.keyOf(withSha1), ComponentIdentity.keyOf(withOtherMd5));
+
+        final Component otherName = new Component();
+        otherName.setName("other.dll");
+        otherName.addHash(new Hash(Hash.Algorithm.SHA1, "49d94806b6e3dc933dacbd8acb0fdbab8ebd1e5d"));
+        Assert.assertNotEquals(ComponentIdentity.keyOf(withSha1), ComponentIdentity.keyOf(otherName));
+
+        Assert.assertNull(ComponentIdentity.keyOf(new Component()));
+        final Component hashOnly = new Component();
+        hashOnly.addHash(new Hash(Hash.Algorithm.SHA1, "49d94806b6e3dc933dacbd8acb0fdbab8ebd1e5d"));
+        Assert.assertNotNull(ComponentIdentity.keyOf(hashOnly));
+    }
+
+
+
+    @Test
+    public void testHashesCompatible()
+    {
+        final Hash sha1 = new Hash(Hash.Algorithm.SHA1, "49d94806b6e3dc933dacbd8acb0fdbab8ebd1e5d");
+        final Hash sha1Upper = new Hash(Hash.Algorithm.SHA1, "49D94806B6E3DC933DACBD8ACB0FDBAB8EBD1E5D");
+        final Hash otherSha1 = new Hash(Hash.Algorithm.SHA1, "8c9de4b9e2f1cde60c4a24a2d1ac0d4fa0d4ae5c");
+        final Hash sha512 = new Hash(Hash.Algorithm.SHA_512, "cf83e1357eefb8bdf1542850d66d8007d620e4050b5715dc"
+            + "83f4a921d36ce9ce47d0d13c5d85f2b0ff8318d2877eec2f63b931bd47417a81a538327af927da3e");
+        final Hash md5 = new Hash(Hash.Algorithm.MD5, "303baf002ce6d382198090aedd9d79a2");
+
+        Assert.assertTrue(ComponentIdentity.hashesCompatible(Arrays.asList(sha512, sha1),
+            Collections.singletonList(sha1Upper)));
+        Assert.assertTrue(ComponentIdentity.hashesCompatible(null, Collections.singletonList(sha1)));
+        Assert.assertTrue(ComponentIdentity.hashesCompatible(Collections.emptyList(), null));
+        Assert.assertFalse(ComponentIdentity.hashesCompatible(Arrays.asList(md5, sha1),
+            Collections.singletonList(otherSha1)));
+        Assert.assertFalse(ComponentIdentity.hashesCompatible(Collections.singletonList(md5),
+            Collections.singletonList(sha1)));
+    }
+
+
+
+    @Test
+    public void testUnversionedKeyOf()
+    {
+        Assert.assertEquals("pkg:maven/org.example/lib?type=jar",
+            ComponentIdentity.unversionedKeyOf("pkg:Maven/org.example/lib@1.0?type=jar", null, "lib"));
+        Assert.assertEquals("pkg:npm/@angular/core#sub",
+            ComponentIdentity.unversionedKeyOf("pkg:npm/@angular/core@17.0.0#sub", null, "core"));
+        Assert.assertEquals("pkg:npm/@angular/core", ComponentIdentity.unversionedKeyOf("pkg:npm/@angular/core", null,
+            "core"));
+
+        Assert.assertEquals(ComponentIdentity.unversionedKeyOf(null, "org.example", "file.dll"),
+            ComponentIdentity.unversionedKeyOf(null, "org.example", "file.dll"));
+        Assert.assertNotEquals(ComponentIdentity.unversionedKeyOf(null, "org.example", "file.dll"),
+            ComponentIdentity.unversionedKeyOf(null, null, "file.dll"));
+        Assert.assertNull(ComponentIdentity.unversionedKeyOf(null, "org.example", null));
+    }
+}
@@ -4,8 +4,10 @@
  */
 package com.siemens.sbom.standardbom.internal;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import org.cyclonedx.model.Property;
@@ -52,4 +54,119 @@ public class PropertyProcessorTest
         final PropertyProcessor underTest = new PropertyProcessor(() -> props, props::add);
         underTest.set("empty", "   ");  // would throw UnsupportedOperationException if adding something
     }
+
+
+
+    private Property buildProperty(final String pName, final String pValue)
+    {
+        final Property result = new Property();
+        result.setName(pName);
+        result.setValue(pValue);
+        return result;
+    }
+
+
+
+    @Test
+    public void testDirectModificationsDetected()
+    {
+        final List<Property> props = new ArrayList<>();
+        props.add(buildProperty("siemens:a", "1"));
+        final PropertyProcessor underTest = new PropertyProcessor(() -> props, props::add);
+        Assert.assertEquals("1", underTest.get("a"));
+        Assert.assertNull(underTest.get("b"));
+
+        props.add(buildProperty("siemens:b", "2"));
+        Assert.assertEquals("2", underTest.get("b"));
+
+        props.get(0).setValue("changed");
+        Assert.assertEquals("changed", underTest.get("a"));
+
+        props.get(0).setName("siemens:renamed");
+        Assert.assertNull(underTest.get("a"));
+        Assert.assertEquals("changed", underTest.get("renamed"));
+
+        props.add(buildProperty("siemens:c", "3"));
+        Assert.assertEquals("3", underTest.get("c"));
+        props.set(2, buildProperty("siemens:replaced", "4"));
+        Assert.assertEquals("4", underTest.get("replaced"));
+        Assert.assertNull(underTest.get("c"));
+    }
+
+
+
+    /**
+     * A property list which counts how often its elements are accessed.
+     */
+    private static final class CountingList
+        extends ArrayList<Property>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private int accesses = 0;
+
+
+
+        @Override
+        public Property get(final int pIndex)
+        {
+            accesses++;
+            return super.get(pIndex);
+        }
+
+
+
+        @Override
+        public Iterator<Property> iterator()
+        {
+            accesses += size();
+            return super.iterator();
+        }
+    }
+
+
+
+    @Test
+    public void testLookupsTakeConstantTime()
+    {
+        final int numProperties = 1000;
+        final CountingList props = new CountingList();
+        for (int i = 0; i < numProperties; i++) {
+            props.add(buildProperty("siemens:p" + i, String.valueOf(i)));
+        }
+        final PropertyProcessor underTest = new PropertyProcessor(() -> props, props::add);
+        Assert.assertEquals("0", underTest.get("p0"));
+        props.accesses = 0;
+
+        for (int i = 0; i < numProperties; i++) {
+            Assert.assertEquals(String.valueOf(i), underTest.get("p" + i));
+            Assert.assertNull(underTest.get("missing"));
+            underTest.set("counter", String.valueOf(i));
+            Assert.assertEquals(String.valueOf(i), underTest.get("counter"));
+        }
+        Assert.assertEquals(numProperties + 1, props.size());
+        Assert.assertTrue("too many element accesses: " + props.accesses, props.accesses <= 10 * numProperties);
+    }
+
+
+
+    @Test
+    public void testSetReplacesAll()
+    {
+        final List<Property> props = new ArrayList<>();
+        props.add(buildProperty("siemens:a", "1"));
+        props.add(buildProperty("siemens:b", "2"));
+        props.add(buildProperty("siemens:a", "3"));
+        final PropertyProcessor underTest = new PropertyProcessor(() -> props, props::add);
+        Assert.assertEquals("1", underTest.get("a"));
+
+        underTest.set("a", " new ");
+        Assert.assertEquals("new", underTest.get("a"));
+        Assert.assertEquals(2, props.size());
+
+        underTest.set("a", null);
+        Assert.assertNull(underTest.get("a"));
+        Assert.assertEquals("2", underTest.get("b"));
+        Assert.assertEquals(1, props.size());
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.sbom.standardbom.StandardBomParser;
+import com.siemens.sbom.standardbom.model.BomEntry;
+import com.siemens.sbom.standardbom.model.StandardBom;
+
+
+/**
+ * Some unit tests of {@link StringDeduplicator}.
+ */
+public class StringDeduplicatorTest
+{
+    @Test
+    public void testDeduplicate()
+    {
+        final StringDeduplicator underTest = new StringDeduplicator();
+        final String first = new String(new char[]{'J', 'a', 'v', 'a'});
+        final String second = new String(new char[]{'J', 'a', 'v', 'a'});
+        Assert.assertNotSame(first, second);
+
+        Assert.assertSame(first, underTest.deduplicate(first));
+        Assert.assertSame(first, underTest.deduplicate(second));
+        Assert.assertNull(underTest.deduplicate(null));
+        Assert.assertEquals(1L, underTest.getReplaced());
+    }
+
+
+
+    private StandardBom parse(final boolean pDeduplicate)
+        throws IOException, ParseException
+    {
+        try (InputStream is = getClass().getResourceAsStream("/com/siemens/sbom/standardbom/full-valid.cdx.json")) {
+            return new StandardBomParser(pDeduplicate).parse(is);
+        }
+    }
+
+
+
+    @Test
+    public void testParse()
+        throws IOException, ParseException
+    {
+        final StandardBomParser parser = new StandardBomParser();
+        final StandardBom expected = parse(false);
+        final StandardBom actual = parse(true);
+
+        Assert.assertEquals(parser.stringify(expected), parser.stringify(actual));
+
+        final List<BomEntry> components = actual.getComponents();
+        String language = null;
+        for (BomEntry component : components) {
+            if ("Java".equals(component.getPrimaryLanguage())) {
+                if (language == null) {
+                    language = component.getPrimaryLanguage();
+                }
+                Assert.assertSame(language, component.getPrimaryLanguage());
+            }
+        }
+        Assert.assertNotNull(language);
+    }
+
+
+
+    @Test
+    public void testParseDependencies()
+        throws IOException, ParseException
+    {
+        final StandardBom sbom = new StandardBom();
+        final Dependency dependency = new Dependency("pkg:maven/a/a@1");
+        dependency.addDependency(new Dependency("pkg:maven/b/b@1"));
+        sbom.addDependency(dependency);
+        final Dependency other = new Dependency("pkg:maven/c/c@1");
+        other.addDependency(new Dependency("pkg:maven/b/b@1"));
+        sbom.addDependency(other);
+        final Dependency inner = new Dependency("pkg:maven/b/b@1");
+        inner.addDependency(new Dependency("pkg:maven/d/d@1"));
+        sbom.addDependency(inner);
+        final Component app = new Component();
+        app.setBomRef("pkg:maven/c/c@1");
+        app.setName("c");
+        sbom.getMetadata().setComponent(app);
+        final StandardBomParser parser = new StandardBomParser(true);
+
+        final StandardBom actual;
+        try (InputStream is = new ByteArrayInputStream(parser.stringify(sbom).getBytes(StandardCharsets.UTF_8))) {
+            actual = parser.parse(is);
+        }
+
+        final String ref1 = actual.getDependencies().get(0).getDependencies().get(0).getRef();
+        final String ref2 = actual.getDependencies().get(1).getDependencies().get(0).getRef();
+        Assert.assertEquals("pkg:maven/b/b@1", ref1);
+        Assert.assertSame(ref1, ref2);
+
+        final Dependency actualInner = actual.getDependencies().get(2);
+        Assert.assertSame(ref1, actualInner.getRef());
+        Assert.assertEquals(1, actualInner.getDependencies().size());
+        Assert.assertEquals("pkg:maven/d/d@1", actualInner.getDependencies().get(0).getRef());
+        Assert.assertSame(actual.getMetadata().getComponent().getBomRef(),
+            actual.getDependencies().get(1).getRef());
+    }
+}
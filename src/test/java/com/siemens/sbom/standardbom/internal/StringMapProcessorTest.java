@@ -6,7 +6,12 @@ package com.siemens.sbom.standardbom.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.TreeMap;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.Assert;
@@ -106,4 +111,65 @@ public class StringMapProcessorTest
 
         Assert.assertNull(underTest.get("broken"));
     }
+
+
+
+    @Test
+    public void testChangedDirectly()
+    {
+        String[] actual = new String[]{"foo=bar"};
+        StringMapProcessor underTest = new StringMapProcessor(() -> actual[0], s -> actual[0] = s);
+        Assert.assertEquals("bar", underTest.get("foo"));
+
+        actual[0] = "foo=baz";
+        Assert.assertEquals("baz", underTest.get("foo"));
+
+        actual[0] = null;
+        Assert.assertNull(underTest.get("foo"));
+        underTest.set("bar", "boo");
+        Assert.assertEquals("bar=boo", actual[0]);
+    }
+
+
+
+    @Test
+    public void testSameAsProperties()
+        throws IOException
+    {
+        final char[] chars = {'a', 'Z', '0', ' ', '=', ':', '#', '!', '\\', '\t', '\n', '\r', '\f', (char) 0xe4,
+            (char) 0x20ac, (char) 1, '~', '{'};
+        final Random random = new Random(42L);
+        for (int round = 0; round < 200; round++) {
+            final Map<String, String> values = new TreeMap<>();
+            for (int i = 0; i < 5; i++) {
+                values.put(randomString(random, chars), randomString(random, chars));
+            }
+
+            final StringBuilder expected = new StringBuilder();
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                final Properties props = new Properties();
+                props.setProperty(entry.getKey(), entry.getValue());
+                final StringWriter sw = new StringWriter();
+                props.store(sw, null);
+                final String stored = sw.toString();
+                final String line = stored.substring(stored.indexOf('\n') + 1);
+                expected.append(expected.length() > 0 ? "\n" : "")
+                    .append(line, 0, line.length() - System.lineSeparator().length());
+            }
+
+            Assert.assertEquals(expected.toString(), StringMapProcessor.encode(values));
+        }
+    }
+
+
+
+    private String randomString(final Random pRandom, final char[] pChars)
+    {
+        final StringBuilder sb = new StringBuilder();
+        final int length = 1 + pRandom.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            sb.append(pChars[pRandom.nextInt(pChars.length)]);
+        }
+        return sb.toString();
+    }
 }
@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * Unit tests of {@link WhitespaceNormalizer}.
+ */
+public class WhitespaceNormalizerTest
+{
+    @Test
+    public void testNormalize()
+    {
+        Assert.assertEquals("", WhitespaceNormalizer.normalize(" \t ", false));
+        Assert.assertEquals("a b c", WhitespaceNormalizer.normalize("  a \t\tb\r\n\nc\r ", false));
+        Assert.assertEquals("a\u0001b", WhitespaceNormalizer.normalize("\u0002a\u0001b\u0003", false));
+    }
+
+
+
+    @Test
+    public void testKeepLineBreaks()
+    {
+        Assert.assertEquals("a \n b", WhitespaceNormalizer.normalize("a  \r\n  b", true));
+        Assert.assertEquals("\n\n a", WhitespaceNormalizer.normalize(" \t\n\r\n a ", true));
+        Assert.assertEquals("a\n", WhitespaceNormalizer.normalize("a\n \t", true));
+        Assert.assertEquals("a \n", WhitespaceNormalizer.normalize("a\r\r\n\r", true));
+        Assert.assertEquals("a b", WhitespaceNormalizer.normalize("a\rb", true));
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) Siemens AG 2019-2026 ALL RIGHTS RESERVED
+ * SPDX-License-Identifier: MIT
+ */
+package com.siemens.sbom.standardbom.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.License;
+import org.cyclonedx.model.LicenseChoice;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.OrganizationalContact;
+import org.cyclonedx.model.OrganizationalEntity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.sbom.standardbom.StandardBomParser;
+
+
+/**
+ * Some unit tests of {@link ImmutableStandardBom}.
+ */
+public class ImmutableStandardBomTest
+{
+    private static final String PURL = "pkg:maven/commons-codec/commons-codec@1.15?type=jar";
+
+
+
+    private StandardBom parse()
+        throws IOException, ParseException
+    {
+        try (InputStream is = getClass().getResourceAsStream("/com/siemens/sbom/standardbom/full-valid.cdx.json")) {
+            return new StandardBomParser().parse(is);
+        }
+    }
+
+
+
+    @Test
+    public void testFreeze()
+        throws IOException, ParseException
+    {
+        final StandardBom sbom = parse();
+        final ImmutableStandardBom underTest = sbom.freeze();
+
+        Assert.assertEquals(sbom.getTimestamp(), underTest.getTimestamp());
+        Assert.assertEquals("clearing", underTest.getProfile());
+        Assert.assertEquals(sbom.getStandardBomVersion(), underTest.getStandardBomVersion());
+        Assert.assertEquals(sbom.getComponents().size(), underTest.getComponents().size());
+        Assert.assertEquals(1, underTest.getExternalComponents().size());
+        Assert.assertEquals("41983931", underTest.getExternalComponents().get(0).getExternalId());
+
+        final BomEntry expected = sbom.findByPurl(PURL);
+        final ImmutableBomEntry actual = underTest.findByPurl(PURL);
+        Assert.assertNotNull(expected);
+        Assert.assertNotNull(actual);
+        Assert.assertSame(actual, underTest.findByBomRef(expected.getBomRef()));
+        Assert.assertEquals(expected.getName(), actual.getName());
+        Assert.assertEquals(expected.getVersion(), actual.getVersion());
+        Assert.assertEquals(expected.getSha256(), actual.getSha256());
+        Assert.assertEquals(expected.getFilename(), actual.getFilename());
+        Assert.assertEquals(expected.getPrimaryLanguage(), actual.getPrimaryLanguage());
+        Assert.assertEquals(expected.isDirectDependency(), actual.isDirectDependency());
+        Assert.assertEquals(expected.getRelativePath(), actual.getRelativePath());
+        Assert.assertEquals(expected.getSourceArchives(), actual.getSourceArchives());
+        Assert.assertEquals(expected.getSourceDownloadUrls(), actual.getSourceDownloadUrls());
+        Assert.assertEquals(expected.getAuthors().size(), actual.getAuthors().size());
+        Assert.assertEquals(Collections.singletonList("Apache License, Version 2.0"), actual.getLicenses());
+
+        Assert.assertEquals(sbom.getDependencies().size(), underTest.getDependencies().size());
+        Assert.assertTrue(underTest.getDependsOn(PURL).isEmpty());
+        Assert.assertTrue(underTest.getDependsOn("unknown").isEmpty());
+    }
+
+
+
+    @Test
+    public void testMetadata()
+        throws IOException, ParseException
+    {
+        final StandardBom sbom = parse();
+        final Metadata metadata = sbom.getMetadata();
+        final OrganizationalContact author = new OrganizationalContact();
+        author.setName("Jane Doe");
+        metadata.addAuthor(author);
+        final OrganizationalEntity supplier = new OrganizationalEntity();
+        supplier.setName("Siemens AG");
+        metadata.setSupplier(supplier);
+        final License license = new License();
+        license.setId("CC0-1.0");
+        final LicenseChoice licenses = new LicenseChoice();
+        licenses.addLicense(license);
+        metadata.setLicenses(licenses);
+
+        final ImmutableStandardBom underTest = sbom.freeze();
+
+        Assert.assertEquals(Collections.singletonList("Jane Doe"), underTest.getAuthors());
+        Assert.assertEquals("Siemens AG", underTest.getSupplier());
+        Assert.assertEquals(Collections.singletonList("CC0-1.0"), underTest.getLicenses());
+        Assert.assertNull(underTest.getLicenseExpression());
+        final List<String> toolNames = new ArrayList<>();
+        for (ImmutableBomEntry tool : underTest.getTools()) {
+            toolNames.add(tool.getName());
+        }
+        Assert.assertEquals(Arrays.asList("standard-bom", "gradle-scanner", "Gradle"), toolNames);
+        Assert.assertEquals("clearing", underTest.getProperties().get("siemens:profile"));
+    }
+
+
+
+    @Test
+    public void testIndependentOfOriginal()
+        throws IOException, ParseException
+    {
+        final StandardBom sbom = parse();
+        final ImmutableStandardBom underTest = sbom.freeze();
+        final int numComponents = underTest.getComponents().size();
+
+        final BomEntry original = sbom.findByPurl(PURL);
+        Assert.assertNotNull(original);
+        original.setVersion("9.9");
+        sbom.addComponent(new BomEntry());
+        final Dependency dependency = new Dependency(PURL);
+        dependency.addDependency(new Dependency("other"));
+        sbom.addDependency(dependency);
+
+        Assert.assertEquals(numComponents, underTest.getComponents().size());
+        Assert.assertEquals("1.15", underTest.findByPurl(PURL).getVersion());
+        Assert.assertTrue(underTest.getDependsOn(PURL).isEmpty());
+    }
+
+
+
+    @Test
+    public void testFreezeDoesNotModify()
+    {
+        final Bom bom = new Bom();
+        final StandardBom sbom = new StandardBom(bom);
+        final ImmutableStandardBom underTest = sbom.freeze();
+
+        Assert.assertNull(bom.getMetadata());
+        Assert.assertNull(bom.getDependencies());
+        Assert.assertNull(underTest.getStandardBomVersion());
+        Assert.assertTrue(underTest.getComponents().isEmpty());
+        Assert.assertTrue(underTest.getDependencies().isEmpty());
+        Assert.assertEquals(0L, underTest.getTimestamp().getTime());
+        Assert.assertTrue(underTest.getAuthors().isEmpty());
+        Assert.assertTrue(underTest.getTools().isEmpty());
+        Assert.assertTrue(underTest.getProperties().isEmpty());
+    }
+
+
+
+    @Test
+    public void testMergedDependencies()
+    {
+        final StandardBom sbom = new StandardBom();
+        final Dependency first = new Dependency("a");
+        first.addDependency(new Dependency("b"));
+        sbom.addDependency(first);
+        final Dependency second = new Dependency("a");
+        second.addDependency(new Dependency("c"));
+        second.addDependency(new Dependency("b"));
+        sbom.addDependency(second);
+
+        final ImmutableStandardBom underTest = sbom.freeze();
+
+        Assert.assertEquals(1, underTest.getDependencies().size());
+        final List<String> expected = new ArrayList<>();
+        expected.add("b");
+        expected.add("c");
+        Assert.assertEquals(expected, underTest.getDependsOn("a"));
+    }
+
+
+
+    @Test
+    public void testConcurrentReads()
+        throws Exception
+    {
+        final ImmutableStandardBom underTest = parse().freeze();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> {
+                    final ImmutableBomEntry entry = underTest.findByPurl(PURL);
+                    return entry != null ? entry.getSha1() : null;
+                }));
+            }
+            for (Future<String> future : futures) {
+                Assert.assertEquals("49d94806b6e3dc933dacbd8acb0fdbab8ebd1e5d", future.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+}
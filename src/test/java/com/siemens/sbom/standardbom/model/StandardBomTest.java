@@ -6,17 +6,37 @@ package com.siemens.sbom.standardbom.model;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.cyclonedx.model.Component;
 import org.cyclonedx.model.Dependency;
 import org.cyclonedx.model.ExternalReference;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.License;
+import org.cyclonedx.model.LicenseChoice;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.OrganizationalContact;
 import org.cyclonedx.model.Property;
+import org.cyclonedx.model.Service;
+import org.cyclonedx.model.metadata.ToolInformation;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.siemens.sbom.standardbom.OutputStyle;
+import com.siemens.sbom.standardbom.StandardBomParser;
+import com.siemens.sbom.standardbom.internal.DigestingOutputStream;
+
 
 /**
  * Some unit tests of {@link StandardBom}.
@@ -65,6 +85,235 @@ public class StandardBomTest
 
 
 
+    private StandardBom buildBom(final boolean pReversed)
+    {
+        final StandardBom result = new StandardBom();
+        result.setTimestamp(new Date(1657292400000L));
+        final List<String> names = Arrays.asList("a", "b", "c");
+        if (pReversed) {
+            Collections.reverse(names);
+        }
+        for (String name : names) {
+            final BomEntry entry = new BomEntry();
+            entry.setName(name);
+            if (pReversed) {
+                entry.setSha1("3f18e1aa31031d89db6f01ba05d501258ce69d2c");
+                entry.setMd5("0cc175b9c0f1b6a831c399e269772661");
+                entry.setWebsite("https://example.com/" + name);
+                entry.setRelativePath("lib/" + name + ".jar");
+                entry.setDirectDependency(Boolean.TRUE);
+                entry.setPrimaryLanguage("Java");
+            }
+            else {
+                entry.setPrimaryLanguage("Java");
+                entry.setDirectDependency(Boolean.TRUE);
+                entry.setRelativePath("lib/" + name + ".jar");
+                entry.setWebsite("https://example.com/" + name);
+                entry.setMd5("0cc175b9c0f1b6a831c399e269772661");
+                entry.setSha1("3f18e1aa31031d89db6f01ba05d501258ce69d2c");
+            }
+            result.addComponent(entry);
+
+            final ExternalComponent extComp = new ExternalComponent();
+            extComp.setUrl("pkg:maven/ext/" + name + "@1");
+            result.addExternalComponent(extComp);
+
+            final Dependency dependency = new Dependency(name);
+            for (String dependsOn : names) {
+                if (!dependsOn.equals(name)) {
+                    dependency.addDependency(new Dependency(dependsOn));
+                }
+            }
+            result.addDependency(dependency);
+        }
+        return result;
+    }
+
+
+
+    @Test
+    public void testContentHash()
+        throws IOException
+    {
+        final StandardBom sbom = buildBom(false);
+        final StandardBom reversed = buildBom(true);
+        final StandardBomParser parser = new StandardBomParser();
+        final String prettyBefore = parser.stringify(reversed);
+
+        Assert.assertNotEquals(parser.stringify(sbom), prettyBefore);
+        Assert.assertEquals(parser.stringify(sbom, OutputStyle.Canonical),
+            parser.stringify(reversed, OutputStyle.Canonical));
+        Assert.assertEquals(sbom.contentHash(), reversed.contentHash());
+        Assert.assertEquals(prettyBefore, parser.stringify(reversed));   // not modified
+
+        final MessageDigest digest = DigestingOutputStream.newDigest();
+        digest.update(parser.stringify(sbom, OutputStyle.Canonical).getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(String.format("%064x", new BigInteger(1, digest.digest())), sbom.contentHash());
+
+        final ObjectMapper mapper = new ObjectMapper();
+        Assert.assertEquals(mapper.readTree(parser.stringify(sbom)),
+            mapper.readTree(parser.stringify(sbom, OutputStyle.Canonical)));
+
+        reversed.getComponents().get(1).setVersion("1.0");
+        Assert.assertNotEquals(sbom.contentHash(), reversed.contentHash());
+    }
+
+
+
+    private static <T> List<T> shuffled(@Nullable final Random pRandom, final List<T> pList)
+    {
+        if (pRandom != null) {
+            Collections.shuffle(pList, pRandom);
+        }
+        return pList;
+    }
+
+
+
+    private static List<Hash> hashes(@Nullable final Random pRandom)
+    {
+        return shuffled(pRandom, new ArrayList<>(Arrays.asList(
+            new Hash(Hash.Algorithm.MD5, "0cc175b9c0f1b6a831c399e269772661"),
+            new Hash(Hash.Algorithm.SHA1, "3f18e1aa31031d89db6f01ba05d501258ce69d2c"),
+            new Hash(Hash.Algorithm.SHA_256, "ca978112ca1bbdcafac231b39a23dc4da786eff8147c4e72b9807785afee48bb"))));
+    }
+
+
+
+    private static List<ExternalReference> extRefs(@Nullable final Random pRandom, final String pName)
+    {
+        final List<ExternalReference> result = new ArrayList<>();
+        for (ExternalReference.Type type : Arrays.asList(ExternalReference.Type.WEBSITE, ExternalReference.Type.VCS,
+            ExternalReference.Type.DISTRIBUTION)) {
+            final ExternalReference extRef = new ExternalReference();
+            extRef.setType(type);
+            extRef.setUrl("https://example.com/" + pName + "/" + type);
+            result.add(extRef);
+        }
+        return shuffled(pRandom, result);
+    }
+
+
+
+    private static List<Property> properties(@Nullable final Random pRandom, final String pName)
+    {
+        final List<Property> result = new ArrayList<>();
+        for (String key : Arrays.asList("x", "y", "z")) {
+            final Property property = new Property();
+            property.setName("test:" + key);
+            property.setValue(pName + key);
+            result.add(property);
+        }
+        return shuffled(pRandom, result);
+    }
+
+
+
+    private static LicenseChoice licenses(@Nullable final Random pRandom)
+    {
+        final List<License> licenses = new ArrayList<>();
+        for (String id : Arrays.asList("Apache-2.0", "MIT", "BSD-3-Clause")) {
+            final License license = new License();
+            license.setId(id);
+            licenses.add(license);
+        }
+        final LicenseChoice result = new LicenseChoice();
+        result.setLicenses(shuffled(pRandom, licenses));
+        return result;
+    }
+
+
+
+    private static List<OrganizationalContact> authors(@Nullable final Random pRandom)
+    {
+        final List<OrganizationalContact> result = new ArrayList<>();
+        for (String name : Arrays.asList("Alice", "Bob", "Carol")) {
+            final OrganizationalContact author = new OrganizationalContact();
+            author.setName(name);
+            author.setEmail(name.toLowerCase() + "@example.com");
+            result.add(author);
+        }
+        return shuffled(pRandom, result);
+    }
+
+
+
+    private static Component buildComponent(@Nullable final Random pRandom, final String pName, final int pDepth)
+    {
+        final Component result = new Component();
+        result.setType(Component.Type.LIBRARY);
+        result.setName(pName);
+        result.setVersion("1.0");
+        result.setHashes(hashes(pRandom));
+        result.setExternalReferences(extRefs(pRandom, pName));
+        result.setProperties(properties(pRandom, pName));
+        result.setLicenses(licenses(pRandom));
+        result.setAuthors(authors(pRandom));
+        if (pDepth > 0) {
+            final List<Component> children = new ArrayList<>();
+            for (String child : Arrays.asList("x", "y", "z")) {
+                children.add(buildComponent(pRandom, pName + "-" + child, pDepth - 1));
+            }
+            result.setComponents(shuffled(pRandom, children));
+        }
+        return result;
+    }
+
+
+
+    private static StandardBom buildShuffledBom(@Nullable final Random pRandom)
+    {
+        final StandardBom result = new StandardBom();
+        result.setTimestamp(new Date(1657292400000L));
+        final Metadata metadata = result.getMetadata();
+        metadata.setComponent(buildComponent(pRandom, "app", 1));
+        metadata.setAuthors(authors(pRandom));
+        metadata.setLicenses(licenses(pRandom));
+        metadata.setProperties(properties(pRandom, "meta"));
+        final ToolInformation tools = new ToolInformation();
+        final List<Component> toolComponents = new ArrayList<>();
+        final List<Service> toolServices = new ArrayList<>();
+        for (String name : Arrays.asList("tool-a", "tool-b", "tool-c")) {
+            toolComponents.add(buildComponent(pRandom, name, 0));
+            final Service service = new Service();
+            service.setName(name + "-service");
+            toolServices.add(service);
+        }
+        tools.setComponents(shuffled(pRandom, toolComponents));
+        tools.setServices(shuffled(pRandom, toolServices));
+        metadata.setToolChoice(tools);
+
+        final List<Component> components = new ArrayList<>();
+        for (String name : Arrays.asList("a", "b", "c")) {
+            components.add(buildComponent(pRandom, name, 2));
+        }
+        for (Component component : shuffled(pRandom, components)) {
+            result.addComponent(new BomEntry(component));
+        }
+        return result;
+    }
+
+
+
+    @Test
+    public void testContentHashShuffled()
+        throws IOException
+    {
+        final StandardBom sorted = buildShuffledBom(null);
+        final StandardBomParser parser = new StandardBomParser();
+        final String canonical = parser.stringify(sorted, OutputStyle.Canonical);
+        for (int seed = 0; seed < 10; seed++) {
+            final StandardBom shuffled = buildShuffledBom(new Random(seed));
+            final String prettyBefore = parser.stringify(shuffled);
+            Assert.assertNotEquals(parser.stringify(sorted), prettyBefore);
+            Assert.assertEquals(canonical, parser.stringify(shuffled, OutputStyle.Canonical));
+            Assert.assertEquals(sorted.contentHash(), shuffled.contentHash());
+            Assert.assertEquals(prettyBefore, parser.stringify(shuffled));   // not modified
+        }
+    }
+
+
+
     @Test
     public void testAddComponent()
     {
@@ -219,4 +468,124 @@ public class StandardBomTest
         underTest.setSerialNumber(sn);
         Assert.assertEquals(sn, underTest.getSerialNumber());
     }
+
+
+
+    private BomEntry buildEntry(final String pName)
+    {
+        final BomEntry result = new BomEntry();
+        result.setName(pName);
+        result.setBomRef("ref-" + pName);
+        result.setPurl("pkg:generic/" + pName + "@1.0");
+        return result;
+    }
+
+
+
+    @Test
+    public void testComponentsCached()
+    {
+        final StandardBom underTest = new StandardBom();
+        Assert.assertTrue(underTest.getComponents().isEmpty());
+        underTest.addComponent(buildEntry("a"));
+        underTest.addComponent(buildEntry("b"));
+
+        final List<BomEntry> first = underTest.getComponents();
+        Assert.assertSame(first, underTest.getComponents());
+        Assert.assertEquals(2, first.size());
+
+        underTest.addComponent(buildEntry("c"));
+        final List<BomEntry> second = underTest.getComponents();
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(2, first.size());
+        Assert.assertEquals(3, second.size());
+        Assert.assertSame(first.get(0), second.get(0));
+        Assert.assertSame(first.get(1), second.get(1));
+        Assert.assertEquals("c", second.get(2).getName());
+    }
+
+
+
+    @Test
+    public void testComponentsModifiedDirectly()
+    {
+        final StandardBom underTest = new StandardBom();
+        underTest.addComponent(buildEntry("a"));
+        underTest.addComponent(buildEntry("b"));
+        Assert.assertEquals("b", underTest.getComponents().get(1).getName());
+
+        final List<Component> cdxComponents = underTest.getCycloneDxBom().getComponents();
+        cdxComponents.remove(1);
+        cdxComponents.add(buildEntry("c").getCycloneDxComponent());
+        Assert.assertEquals("c", underTest.getComponents().get(1).getName());
+
+        final BomEntry a = underTest.getComponents().get(0);
+        cdxComponents.set(1, buildEntry("z").getCycloneDxComponent());
+        Assert.assertSame(a, underTest.getComponents().get(0));
+        Assert.assertEquals("z", underTest.getComponents().get(1).getName());
+
+        Collections.swap(cdxComponents, 0, 1);
+        Assert.assertEquals("z", underTest.getComponents().get(0).getName());
+        Assert.assertEquals("a", underTest.getComponents().get(1).getName());
+
+        underTest.getCycloneDxBom().setComponents(null);
+        Assert.assertTrue(underTest.getComponents().isEmpty());
+        Assert.assertNull(underTest.findByBomRef("ref-a"));
+    }
+
+
+
+    @Test
+    public void testFindComponents()
+    {
+        final StandardBom underTest = new StandardBom();
+        final BomEntry a = buildEntry("a");
+        underTest.addComponent(a);
+        underTest.addComponent(buildEntry("b"));
+
+        Assert.assertSame(a.getCycloneDxComponent(), underTest.findByBomRef("ref-a").getCycloneDxComponent());
+        Assert.assertSame(a.getCycloneDxComponent(), underTest.findByPurl("pkg:generic/a@1.0").getCycloneDxComponent());
+        Assert.assertNull(underTest.findByBomRef("ref-x"));
+        Assert.assertNull(underTest.findByPurl(null));
+
+        final BomEntry c = buildEntry("c");
+        underTest.addComponent(c);
+        Assert.assertSame(c.getCycloneDxComponent(), underTest.findByBomRef("ref-c").getCycloneDxComponent());
+
+        a.setBomRef("ref-renamed");
+        Assert.assertNull(underTest.findByBomRef("ref-a"));
+    }
+
+
+
+    @Test
+    public void testFindComponentsConstantTime()
+    {
+        final int numComponents = 1000;
+        final AtomicInteger accesses = new AtomicInteger();
+        final List<Component> cdxComponents = new ArrayList<Component>()
+        {
+            private static final long serialVersionUID = 1L;
+
+
+
+            @Override
+            public Component get(final int pIndex)
+            {
+                accesses.incrementAndGet();
+                return super.get(pIndex);
+            }
+        };
+        for (int i = 0; i < numComponents; i++) {
+            cdxComponents.add(buildEntry("c" + i).getCycloneDxComponent());
+        }
+        final StandardBom underTest = new StandardBom();
+        underTest.getCycloneDxBom().setComponents(cdxComponents);
+
+        for (int i = 0; i < numComponents; i++) {
+            Assert.assertEquals("c" + i, underTest.findByBomRef("ref-c" + i).getName());
+            Assert.assertEquals("c" + i, underTest.findByPurl("pkg:generic/c" + i + "@1.0").getName());
+        }
+        Assert.assertTrue("too many element accesses: " + accesses, accesses.get() <= 3 * numComponents);
+    }
 }